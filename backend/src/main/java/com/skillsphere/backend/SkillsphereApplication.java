@@ -2,8 +2,10 @@ package com.skillsphere.backend;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class SkillsphereApplication {
     public static void main(String[] args) {
         SpringApplication.run(SkillsphereApplication.class, args);
@@ -0,0 +1,32 @@
+package com.skillsphere.backend.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+/**
+ * Caps every new transaction at the time left in the current request's budget. Hibernate applies the
+ * transaction timeout to each statement as a JDBC query timeout, and JdbcTemplate picks it up from the
+ * bound connection holder, so a slow query is cancelled by the driver instead of holding the thread.
+ */
+public class DeadlineAwareJpaTransactionManager extends JpaTransactionManager {
+
+    public DeadlineAwareJpaTransactionManager(EntityManagerFactory entityManagerFactory) {
+        super(entityManagerFactory);
+    }
+
+    @Override
+    protected int determineTimeout(TransactionDefinition definition) {
+        int configured = super.determineTimeout(definition);
+        if (!RequestDeadline.isActive()) {
+            return configured;
+        }
+        long remainingMs = RequestDeadline.remainingMillis();
+        if (remainingMs <= 0) {
+            throw new RequestDeadlineExceededException("Request deadline exceeded before transaction start");
+        }
+        // JDBC timeouts are whole seconds; round up so a small remainder still gets a chance
+        int remainingSeconds = (int) Math.min(Integer.MAX_VALUE, (remainingMs + 999) / 1000);
+        return configured == TransactionDefinition.TIMEOUT_DEFAULT ? remainingSeconds : Math.min(configured, remainingSeconds);
+    }
+}
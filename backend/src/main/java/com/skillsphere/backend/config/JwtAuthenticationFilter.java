@@ -1,6 +1,7 @@
 // src/main/java/com/skillsphere/backend/config/JwtAuthenticationFilter.java
 package com.skillsphere.backend.config;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.slf4j.Logger;
@@ -21,6 +22,9 @@ import java.io.IOException;
 
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
+
+    // Set on tokens issued to admins; grants the ADMIN authority on top of USER
+    public static final String ADMIN_CLAIM = "admin";
     private final SecretKey secretKey;
 
     public JwtAuthenticationFilter(SecretKey secretKey) {
@@ -34,18 +38,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
             try {
-                String userId = Jwts.parserBuilder()
+                Claims claims = Jwts.parserBuilder()
                         .setSigningKey(secretKey)
                         .build()
                         .parseClaimsJws(token)
-                        .getBody()
-                        .getSubject();
+                        .getBody();
+                String userId = claims.getSubject();
+                boolean admin = Boolean.TRUE.equals(claims.get(ADMIN_CLAIM, Boolean.class));
 
                 if (userId != null && SecurityContextHolder.getContext().getAuthentication() == null) {
                     // Optionally validate user existence here (requires UserService injection)
                     UserDetails userDetails = User.withUsername(userId)
                             .password("")
-                            .authorities("USER")
+                            .authorities(admin ? new String[] {"USER", "ADMIN"} : new String[] {"USER"})
                             .build();
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails, null, userDetails.getAuthorities());
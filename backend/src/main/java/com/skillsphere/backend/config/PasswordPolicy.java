@@ -0,0 +1,107 @@
+package com.skillsphere.backend.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Decides the BCrypt work factor for this node. Unless {@code security.password.bcrypt-cost} pins it,
+ * the cost is calibrated at startup: the highest cost in [min-cost, max-cost] whose verify time on this
+ * host stays within {@code security.password.target-verify-ms}.
+ *
+ * Calibration can pick different costs on different node types, so whether a stored hash is rewritten
+ * depends only on the cluster-wide range [min-cost, max-cost], never on this node's own cost; otherwise
+ * nodes would keep rewriting each other's hashes.
+ */
+@Component
+public class PasswordPolicy {
+    private static final Logger logger = LoggerFactory.getLogger(PasswordPolicy.class);
+
+    private static final String ENCODER_ID = "bcrypt";
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\{bcrypt}\\$2[aby]?\\$(\\d{2})\\$");
+
+    private final int cost;
+    private final int minCost;
+    private final int maxCost;
+
+    public PasswordPolicy(
+            @Value("${security.password.bcrypt-cost:0}") int pinnedCost,
+            @Value("${security.password.target-verify-ms:250}") long targetVerifyMs,
+            @Value("${security.password.min-cost:10}") int minCost,
+            @Value("${security.password.max-cost:14}") int maxCost) {
+        if (pinnedCost > 0) {
+            this.cost = pinnedCost;
+            logger.info("Using pinned BCrypt cost {}", cost);
+        } else {
+            this.cost = calibrate(targetVerifyMs, minCost, maxCost);
+        }
+        // A pinned cost outside the range widens it, or its own hashes would be rehashed on every login
+        this.minCost = Math.min(minCost, cost);
+        this.maxCost = Math.max(maxCost, cost);
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    /**
+     * Encodes new hashes as {@code {bcrypt}...} at the calibrated cost. Hashes stored before the prefix was
+     * introduced are still verified as plain BCrypt at whatever cost they were created with.
+     */
+    public PasswordEncoder createEncoder() {
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(ENCODER_ID,
+            Map.of(ENCODER_ID, new BCryptPasswordEncoder(cost)));
+        encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return encoder;
+    }
+
+    /** True if the stored hash is not in the current format or its cost is outside [min-cost, max-cost]. */
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        if (!matcher.find()) {
+            return true;
+        }
+        int storedCost = Integer.parseInt(matcher.group(1));
+        return storedCost < minCost || storedCost > maxCost;
+    }
+
+    private static int calibrate(long targetVerifyMs, int minCost, int maxCost) {
+        String sample = "calibration-password";
+        // Warm up the JIT so the first measurement is not inflated
+        BCryptPasswordEncoder warmUp = new BCryptPasswordEncoder(4);
+        for (int i = 0; i < 10; i++) {
+            warmUp.matches(sample, warmUp.encode(sample));
+        }
+
+        int chosen = minCost;
+        for (int candidate = minCost; candidate <= maxCost; candidate++) {
+            BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(candidate);
+            String hash = encoder.encode(sample);
+            long start = System.nanoTime();
+            encoder.matches(sample, hash);
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000L;
+            logger.debug("BCrypt cost {} verifies in {} ms", candidate, elapsedMs);
+            if (elapsedMs > targetVerifyMs && candidate > minCost) {
+                break;
+            }
+            chosen = candidate;
+            // Each step doubles the work; stop before a step that would clearly overshoot
+            if (elapsedMs * 2 > targetVerifyMs) {
+                break;
+            }
+        }
+        logger.info("Calibrated BCrypt cost {} for a {} ms verify target", chosen, targetVerifyMs);
+        return chosen;
+    }
+}
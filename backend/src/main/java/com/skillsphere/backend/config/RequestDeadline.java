@@ -0,0 +1,66 @@
+package com.skillsphere.backend.config;
+
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.TransactionTimedOutException;
+
+import java.sql.SQLTimeoutException;
+
+/**
+ * Deadline of the HTTP request being handled on the current thread, set by RequestDeadlineFilter.
+ * Threads outside a request (scheduled jobs, the outbox dispatcher) have no deadline.
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+    private RequestDeadline() {
+    }
+
+    static void start(long budgetMs) {
+        DEADLINE_NANOS.set(System.nanoTime() + budgetMs * 1_000_000L);
+    }
+
+    static void clear() {
+        DEADLINE_NANOS.remove();
+    }
+
+    public static boolean isActive() {
+        return DEADLINE_NANOS.get() != null;
+    }
+
+    /** Milliseconds left in the current request's budget, or Long.MAX_VALUE if there is none. */
+    public static long remainingMillis() {
+        Long deadline = DEADLINE_NANOS.get();
+        if (deadline == null) {
+            return Long.MAX_VALUE;
+        }
+        return (deadline - System.nanoTime()) / 1_000_000L;
+    }
+
+    public static boolean isExpired() {
+        return remainingMillis() <= 0;
+    }
+
+    /**
+     * True if the failure, or anything in its cause chain, is a deadline or query timeout. Code that catches
+     * broad exceptions should rethrow these so RequestDeadlineFilter can answer with a 503.
+     */
+    public static boolean isTimeout(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RequestDeadlineExceededException
+                    || cause instanceof QueryTimeoutException
+                    || cause instanceof TransactionTimedOutException
+                    || cause instanceof SQLTimeoutException
+                    || cause instanceof jakarta.persistence.QueryTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static void checkNotExpired() {
+        if (isExpired()) {
+            throw new RequestDeadlineExceededException("Request deadline exceeded");
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.skillsphere.backend.config;
+
+public class RequestDeadlineExceededException extends RuntimeException {
+    public RequestDeadlineExceededException(String message) {
+        super(message);
+    }
+}
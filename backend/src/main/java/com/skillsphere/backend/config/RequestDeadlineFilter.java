@@ -0,0 +1,108 @@
+package com.skillsphere.backend.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.Map;
+
+/**
+ * Gives each request a time budget from {@link RequestDeadlineProperties}. The budget is exposed to the
+ * transaction manager through {@link RequestDeadline}. Every request that runs past its deadline increments
+ * the endpoint's counter in {@link RequestDeadlineMetrics}, but only a request that failed because of it
+ * (a deadline or query timeout exception) has its buffered response replaced with a 503. A late response
+ * that did complete is sent as is, since its changes may already be committed.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+    private static final Logger logger = LoggerFactory.getLogger(RequestDeadlineFilter.class);
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Autowired
+    private RequestDeadlineProperties properties;
+
+    @Autowired
+    private RequestDeadlineMetrics metrics;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!properties.isEnabled()) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return properties.getExcludedPaths().stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        RequestDeadline.start(budgetFor(path));
+        boolean timedOut = false;
+        try {
+            filterChain.doFilter(request, wrapper);
+        } catch (ServletException | IOException | RuntimeException e) {
+            if (!RequestDeadline.isTimeout(e)) {
+                throw e;
+            }
+            timedOut = true;
+            logger.debug("Request failed on its deadline: {}", e.getMessage());
+        } finally {
+            boolean expired = RequestDeadline.isExpired();
+            RequestDeadline.clear();
+            if (timedOut) {
+                rejectExpired(request, wrapper, path);
+            } else if (expired) {
+                String endpoint = endpointOf(request);
+                metrics.recordExceeded(endpoint);
+                logger.warn("Request to {} ({}) completed after its deadline", endpoint, path);
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private static String endpointOf(HttpServletRequest request) {
+        // Unmatched paths share one key so arbitrary URLs cannot grow the metrics map
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : "<unmapped>");
+    }
+
+    private long budgetFor(String path) {
+        Comparator<String> specificity = pathMatcher.getPatternComparator(path);
+        return properties.getEndpoints().entrySet().stream()
+            .filter(entry -> pathMatcher.match(entry.getKey(), path))
+            .min((a, b) -> specificity.compare(a.getKey(), b.getKey()))
+            .map(Map.Entry::getValue)
+            .orElse(properties.getDefaultMs());
+    }
+
+    private void rejectExpired(HttpServletRequest request, ContentCachingResponseWrapper wrapper, String path)
+            throws IOException {
+        String endpoint = endpointOf(request);
+        metrics.recordExceeded(endpoint);
+        logger.warn("Request deadline exceeded for {} ({})", endpoint, path);
+
+        wrapper.resetBuffer();
+        wrapper.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        wrapper.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        wrapper.getOutputStream().write("{\"message\":\"Request deadline exceeded\"}".getBytes(StandardCharsets.UTF_8));
+    }
+}
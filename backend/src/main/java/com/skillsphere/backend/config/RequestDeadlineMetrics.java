@@ -0,0 +1,24 @@
+package com.skillsphere.backend.config;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class RequestDeadlineMetrics {
+
+    private final Map<String, LongAdder> exceeded = new ConcurrentHashMap<>();
+
+    void recordExceeded(String endpoint) {
+        exceeded.computeIfAbsent(endpoint, k -> new LongAdder()).increment();
+    }
+
+    public Map<String, Long> getExceededCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        exceeded.forEach((endpoint, count) -> counts.put(endpoint, count.sum()));
+        return counts;
+    }
+}
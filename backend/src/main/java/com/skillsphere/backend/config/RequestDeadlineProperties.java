@@ -0,0 +1,25 @@
+package com.skillsphere.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-endpoint time budgets, e.g. {@code request.deadline.endpoints[/api/admin/subscriptions]=3000}.
+ * Keys are Ant-style path patterns; the most specific match wins, otherwise {@code default-ms} applies.
+ */
+@Component
+@ConfigurationProperties(prefix = "request.deadline")
+@Data
+public class RequestDeadlineProperties {
+    private boolean enabled = true;
+    private long defaultMs = 10000;
+    private Map<String, Long> endpoints = new LinkedHashMap<>();
+    // Streaming responses cannot be buffered and replaced with a 503
+    private List<String> excludedPaths = new ArrayList<>(List.of("/api/admin/events", "/uploads/**"));
+}
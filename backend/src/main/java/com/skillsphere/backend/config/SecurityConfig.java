@@ -6,7 +6,6 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -42,6 +41,11 @@ public class SecurityConfig {
                     "/error",
                     "/api/subscriptions/plans"
                 ).permitAll()
+                // Customer data across all users; other admin endpoints are still only authenticated
+                .requestMatchers(
+                    "/api/admin/events",
+                    "/api/admin/subscriptions/search"
+                ).hasAuthority("ADMIN")
                 .requestMatchers(
                     "/api/posts/**",
                     "/api/learning-plans/**",
@@ -80,8 +84,8 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordPolicy passwordPolicy) {
+        return passwordPolicy.createEncoder();
     }
 
     @Bean
@@ -0,0 +1,57 @@
+package com.skillsphere.backend.config;
+
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint totals of the SQL work done by requests, as recorded by SqlStatementStatsFilter.
+ */
+@Component
+public class SqlStatementMetrics {
+
+    private static class EndpointStats {
+        final LongAdder requests = new LongAdder();
+        final LongAdder statements = new LongAdder();
+        final LongAdder rows = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+        final LongAccumulator maxStatements = new LongAccumulator(Math::max, 0);
+        final LongAdder repeatedStatementRequests = new LongAdder();
+    }
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+
+    void record(String endpoint, SqlStatementStats stats, boolean repeatedStatements) {
+        EndpointStats endpointStats = endpoints.computeIfAbsent(endpoint, k -> new EndpointStats());
+        endpointStats.requests.increment();
+        endpointStats.statements.add(stats.getStatements());
+        endpointStats.rows.add(stats.getRows());
+        endpointStats.nanos.add(stats.getNanos());
+        endpointStats.maxStatements.accumulate(stats.getStatements());
+        if (repeatedStatements) {
+            endpointStats.repeatedStatementRequests.increment();
+        }
+    }
+
+    public Map<String, Map<String, Object>> getEndpointStatistics() {
+        Map<String, Map<String, Object>> result = new TreeMap<>();
+        endpoints.forEach((endpoint, stats) -> {
+            long requests = stats.requests.sum();
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("requests", requests);
+            values.put("statements", stats.statements.sum());
+            values.put("avgStatements", requests == 0 ? 0.0 : (double) stats.statements.sum() / requests);
+            values.put("maxStatements", stats.maxStatements.get());
+            values.put("rows", stats.rows.sum());
+            values.put("sqlTimeMs", stats.nanos.sum() / 1_000_000L);
+            values.put("requestsWithRepeatedStatements", stats.repeatedStatementRequests.sum());
+            result.put(endpoint, values);
+        });
+        return result;
+    }
+}
@@ -0,0 +1,99 @@
+package com.skillsphere.backend.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Counts the JDBC statements, fetched rows and SQL time of each request, aggregates them per endpoint in
+ * {@link SqlStatementMetrics} and logs statement shapes repeated {@code repeat-threshold} or more times
+ * within one request, the usual sign of an N+1. With {@code sql.statement-stats.expose-header=true}
+ * (off in the prod profile) the counts are also returned as response headers.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(name = "sql.statement-stats.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatementStatsFilter extends OncePerRequestFilter {
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatementStatsFilter.class);
+
+    public static final String STATEMENT_COUNT_HEADER = "X-Sql-Statement-Count";
+    public static final String ROWS_HEADER = "X-Sql-Rows-Fetched";
+    public static final String TIME_HEADER = "X-Sql-Time-Ms";
+    public static final String REPEATED_HEADER = "X-Sql-Repeated-Statements";
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Autowired
+    private SqlStatementMetrics metrics;
+
+    @Value("${sql.statement-stats.expose-header:false}")
+    private boolean exposeHeader;
+
+    @Value("${sql.statement-stats.repeat-threshold:5}")
+    private int repeatThreshold;
+
+    // Streaming responses are counted but never buffered for the header
+    @Value("${sql.statement-stats.unbuffered-paths:/api/admin/events,/uploads/**}")
+    private List<String> unbufferedPaths;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        ContentCachingResponseWrapper ownWrapper = null;
+        HttpServletResponse target = response;
+        // Headers can only be added after the body is produced if something buffers the response;
+        // RequestDeadlineFilter usually already does
+        if (exposeHeader && WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class) == null
+                && unbufferedPaths.stream().noneMatch(pattern -> pathMatcher.match(pattern, path))) {
+            ownWrapper = new ContentCachingResponseWrapper(response);
+            target = ownWrapper;
+        }
+
+        SqlStatementStats.begin();
+        try {
+            filterChain.doFilter(request, target);
+        } finally {
+            record(request, target, path, SqlStatementStats.end());
+            if (ownWrapper != null) {
+                ownWrapper.copyBodyToResponse();
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, String path, SqlStatementStats stats) {
+        // Unmatched paths share one key so arbitrary URLs cannot grow the metrics map
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = request.getMethod() + " " + (pattern != null ? pattern : "<unmapped>");
+
+        Map<String, Integer> repeated = stats.repeatedShapes(repeatThreshold);
+        repeated.forEach((shape, count) ->
+            logger.warn("Possible N+1 on {} ({}): statement executed {} times: {}", endpoint, path, count, shape));
+        metrics.record(endpoint, stats, !repeated.isEmpty());
+
+        if (exposeHeader && !response.isCommitted()) {
+            response.setHeader(STATEMENT_COUNT_HEADER, Integer.toString(stats.getStatements()));
+            response.setHeader(ROWS_HEADER, Long.toString(stats.getRows()));
+            response.setHeader(TIME_HEADER, Long.toString(stats.getNanos() / 1_000_000L));
+            response.setHeader(REPEATED_HEADER, Integer.toString(repeated.size()));
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.skillsphere.backend.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Wraps the application DataSource so every statement execution and fetched row is reported to the
+ * {@link SqlStatementStats} of the current request. Outside a request the proxies only delegate.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    public StatementCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(super.getConnection(username, password));
+    }
+
+    private static Connection wrapConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(StatementCountingDataSource.class.getClassLoader(),
+            new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                Object result = invoke(proxy, connection, method, args);
+                String name = method.getName();
+                if (result instanceof CallableStatement && name.equals("prepareCall")) {
+                    return wrapStatement((Statement) result, CallableStatement.class, (String) args[0]);
+                }
+                if (result instanceof PreparedStatement && name.equals("prepareStatement")) {
+                    return wrapStatement((Statement) result, PreparedStatement.class, (String) args[0]);
+                }
+                if (result instanceof Statement && name.equals("createStatement")) {
+                    return wrapStatement((Statement) result, Statement.class, null);
+                }
+                return result;
+            });
+    }
+
+    private static Object wrapStatement(Statement statement, Class<?> type, String preparedSql) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            String name = method.getName();
+            SqlStatementStats stats = SqlStatementStats.current();
+            if (stats == null || !name.startsWith("execute")) {
+                Object result = invoke(proxy, statement, method, args);
+                return stats != null && result instanceof ResultSet && name.equals("getResultSet")
+                    ? wrapResultSet((ResultSet) result) : result;
+            }
+            String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : preparedSql;
+            long start = System.nanoTime();
+            try {
+                Object result = invoke(proxy, statement, method, args);
+                return result instanceof ResultSet ? wrapResultSet((ResultSet) result) : result;
+            } finally {
+                stats.recordStatement(sql, System.nanoTime() - start);
+            }
+        };
+        return Proxy.newProxyInstance(StatementCountingDataSource.class.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+
+    private static ResultSet wrapResultSet(ResultSet resultSet) {
+        return (ResultSet) Proxy.newProxyInstance(StatementCountingDataSource.class.getClassLoader(),
+            new Class<?>[] {ResultSet.class}, (proxy, method, args) -> {
+                Object result = invoke(proxy, resultSet, method, args);
+                if (Boolean.TRUE.equals(result) && method.getName().equals("next")) {
+                    SqlStatementStats stats = SqlStatementStats.current();
+                    if (stats != null) {
+                        stats.recordRow();
+                    }
+                }
+                return result;
+            });
+    }
+
+    private static Object invoke(Object proxy, Object target, Method method, Object[] args) throws Throwable {
+        // Identity semantics, so Spring's connection bookkeeping recognises the same proxy it handed out
+        if (method.getName().equals("equals") && method.getParameterCount() == 1) {
+            return proxy == args[0];
+        }
+        if (method.getName().equals("hashCode") && method.getParameterCount() == 0) {
+            return System.identityHashCode(proxy);
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
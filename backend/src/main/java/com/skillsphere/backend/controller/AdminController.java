@@ -1,14 +1,23 @@
 // AdminController.java
 package com.skillsphere.backend.controller;
 
+import com.skillsphere.backend.config.RequestDeadline;
+import com.skillsphere.backend.config.RequestDeadlineMetrics;
+import com.skillsphere.backend.config.SqlStatementMetrics;
 import com.skillsphere.backend.model.Subscription;
 import com.skillsphere.backend.model.SubscriptionPlan;
+import com.skillsphere.backend.service.AdminChangeBroadcaster;
+import com.skillsphere.backend.service.CacheStatisticsService;
+import com.skillsphere.backend.service.SubscriptionSearchIndex;
 import com.skillsphere.backend.service.SubscriptionService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Map;
@@ -21,12 +30,61 @@ public class AdminController {
     @Autowired
     private SubscriptionService subscriptionService;
 
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+
+    @Autowired
+    private SubscriptionSearchIndex subscriptionSearchIndex;
+
+    @Autowired
+    private AdminChangeBroadcaster adminChangeBroadcaster;
+
+    @Autowired
+    private RequestDeadlineMetrics requestDeadlineMetrics;
+
+    @Autowired
+    private SqlStatementMetrics sqlStatementMetrics;
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        logger.info("Admin subscribing to change stream, Last-Event-ID: {}", lastEventId);
+        return adminChangeBroadcaster.subscribe(lastEventId);
+    }
+
     @GetMapping("/subscriptions")
     public ResponseEntity<List<Subscription>> getAllSubscriptions() {
         logger.info("Admin fetching all subscriptions");
         return ResponseEntity.ok(subscriptionService.getAllSubscriptions());
     }
 
+    @GetMapping("/subscriptions/search")
+    public ResponseEntity<?> searchSubscriptions(
+            @RequestParam(required = false) String username,
+            @RequestParam(defaultValue = "prefix") String match,
+            @RequestParam(required = false) String plan,
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        SubscriptionSearchIndex.MatchMode mode;
+        try {
+            mode = SubscriptionSearchIndex.MatchMode.valueOf(match.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", "match must be 'prefix' or 'substring'"));
+        }
+        if (page < 0 || size < 1 || size > 100) {
+            return ResponseEntity.badRequest().body(Map.of("message", "page must be >= 0 and size between 1 and 100"));
+        }
+        logger.info("Admin searching subscriptions: username={}, match={}, plan={}, active={}", username, match, plan, active);
+        Page<SubscriptionSearchIndex.Hit> results = subscriptionSearchIndex.search(username, mode, plan, active, page, size);
+        return ResponseEntity.ok(Map.of(
+            "content", results.getContent(),
+            "page", results.getNumber(),
+            "size", results.getSize(),
+            "totalElements", results.getTotalElements(),
+            "totalPages", results.getTotalPages()
+        ));
+    }
+
     @PostMapping("/subscriptions")
     public ResponseEntity<?> createSubscription(@RequestBody Map<String, Object> request) {
         try {
@@ -36,6 +94,9 @@ public class AdminController {
             Subscription subscription = subscriptionService.createSubscription(userId, plan);
             return ResponseEntity.ok(subscription);
         } catch (Exception e) {
+            if (RequestDeadline.isTimeout(e)) {
+                throw e;
+            }
             logger.error("Failed to create subscription: {}", e.getMessage());
             return ResponseEntity.badRequest().body(Map.of("message", "Failed to create subscription: " + e.getMessage()));
         }
@@ -57,6 +118,9 @@ public class AdminController {
             SubscriptionPlan plan = subscriptionService.createSubscriptionPlan(name, description, price);
             return ResponseEntity.ok(plan);
         } catch (Exception e) {
+            if (RequestDeadline.isTimeout(e)) {
+                throw e;
+            }
             logger.error("Failed to create subscription plan: {}", e.getMessage());
             return ResponseEntity.badRequest().body(Map.of("message", "Failed to create subscription plan: " + e.getMessage()));
         }
@@ -105,6 +169,9 @@ public class AdminController {
             logger.error("Validation error updating subscription plan id: {}: {}", id, e.getMessage());
             return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
         } catch (Exception e) {
+            if (RequestDeadline.isTimeout(e)) {
+                throw e;
+            }
             logger.error("Unexpected error updating subscription plan id: {}: {}", id, e.getMessage());
             return ResponseEntity.status(500).body(Map.of("message", "Internal server error: " + (e.getMessage() != null ? e.getMessage() : "Unknown error")));
         }
@@ -117,8 +184,29 @@ public class AdminController {
             subscriptionService.deleteSubscriptionPlan(id);
             return ResponseEntity.ok().build();
         } catch (Exception e) {
+            if (RequestDeadline.isTimeout(e)) {
+                throw e;
+            }
             logger.error("Failed to delete subscription plan id: {}: {}", id, e.getMessage());
             return ResponseEntity.badRequest().body(Map.of("message", "Failed to delete subscription plan: " + e.getMessage()));
         }
     }
+
+    @GetMapping("/cache-stats")
+    public ResponseEntity<Map<String, Object>> getCacheStatistics() {
+        logger.info("Admin fetching second-level cache statistics");
+        return ResponseEntity.ok(cacheStatisticsService.getCacheStatistics());
+    }
+
+    @GetMapping("/request-deadlines")
+    public ResponseEntity<Map<String, Long>> getRequestDeadlineStatistics() {
+        logger.info("Admin fetching request deadline statistics");
+        return ResponseEntity.ok(requestDeadlineMetrics.getExceededCounts());
+    }
+
+    @GetMapping("/sql-stats")
+    public ResponseEntity<Map<String, Map<String, Object>>> getSqlStatistics() {
+        logger.info("Admin fetching per-endpoint SQL statistics");
+        return ResponseEntity.ok(sqlStatementMetrics.getEndpointStatistics());
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.skillsphere.backend.controller;
 
+import com.skillsphere.backend.config.JwtAuthenticationFilter;
 import com.skillsphere.backend.model.User;
 import com.skillsphere.backend.model.Admin;
 import com.skillsphere.backend.service.UserService;
@@ -47,6 +48,7 @@ public class AuthController {
             if (user != null) {
                 String token = Jwts.builder()
                         .setSubject(user.getId().toString())
+                        .claim(JwtAuthenticationFilter.ADMIN_CLAIM, user.isAdmin())
                         .signWith(secretKey)
                         .compact();
                 Map<String, Object> response = new HashMap<>();
@@ -63,6 +65,7 @@ public class AuthController {
             if (admin != null) {
                 String token = Jwts.builder()
                         .setSubject(admin.getId().toString())
+                        .claim(JwtAuthenticationFilter.ADMIN_CLAIM, true)
                         .signWith(secretKey)
                         .compact();
                 Map<String, Object> response = new HashMap<>();
@@ -97,6 +100,7 @@ public class AuthController {
             User user = userService.register(username, password);
             String token = Jwts.builder()
                     .setSubject(user.getId().toString())
+                    .claim(JwtAuthenticationFilter.ADMIN_CLAIM, user.isAdmin())
                     .signWith(secretKey)
                     .compact();
             Map<String, Object> response = new HashMap<>();
@@ -41,7 +41,8 @@ public class SubscriptionController {
 
     @GetMapping("/user")
     public ResponseEntity<List<Subscription>> getUserSubscriptions(
-            @RequestHeader("Authorization") String authHeader) {
+            @RequestHeader("Authorization") String authHeader,
+            @RequestParam(defaultValue = "false") boolean includeHistory) {
         String token = authHeader.replace("Bearer ", "");
         Long userId = Long.parseLong(Jwts.parserBuilder()
                 .setSigningKey(secretKey)
@@ -49,7 +50,7 @@ public class SubscriptionController {
                 .parseClaimsJws(token)
                 .getBody()
                 .getSubject());
-        List<Subscription> subscriptions = subscriptionService.getUserSubscriptions(userId);
+        List<Subscription> subscriptions = subscriptionService.getUserSubscriptions(userId, includeHistory);
         return ResponseEntity.ok(subscriptions);
     }
 
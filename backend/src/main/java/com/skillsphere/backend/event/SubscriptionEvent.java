@@ -0,0 +1,39 @@
+package com.skillsphere.backend.event;
+
+import com.skillsphere.backend.model.Subscription;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain event published by SubscriptionService inside the transaction that changed the subscription.
+ */
+@Value
+public class SubscriptionEvent {
+
+    public enum Type { CREATED, UPDATED, DELETED, EXPIRED }
+
+    Type type;
+    Long subscriptionId;
+    Long userId;
+    String username;
+    String plan;
+    boolean active;
+    LocalDateTime startDate;
+    LocalDateTime endDate;
+    LocalDateTime occurredAt;
+
+    public static SubscriptionEvent of(Type type, Subscription subscription) {
+        return new SubscriptionEvent(
+            type,
+            subscription.getId(),
+            subscription.getUser().getId(),
+            subscription.getUser().getUsername(),
+            subscription.getPlan(),
+            subscription.isActive(),
+            subscription.getStartDate(),
+            subscription.getEndDate(),
+            LocalDateTime.now()
+        );
+    }
+}
@@ -0,0 +1,36 @@
+package com.skillsphere.backend.event;
+
+import com.skillsphere.backend.model.SubscriptionPlan;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Published by SubscriptionService when a subscription plan is created, updated or deleted.
+ */
+@Value
+public class SubscriptionPlanEvent {
+
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    Type type;
+    Long planId;
+    String name;
+    List<String> features;
+    double price;
+    LocalDateTime createdAt;
+    LocalDateTime occurredAt;
+
+    public static SubscriptionPlanEvent of(Type type, SubscriptionPlan plan) {
+        return new SubscriptionPlanEvent(
+            type,
+            plan.getId(),
+            plan.getName(),
+            List.copyOf(plan.getFeatures()),
+            plan.getPrice(),
+            plan.getCreatedAt(),
+            LocalDateTime.now()
+        );
+    }
+}
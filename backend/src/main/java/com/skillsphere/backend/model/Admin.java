@@ -2,15 +2,22 @@ package com.skillsphere.backend.model;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 @Entity
 @Table(name = "admin")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "admins")
+@NaturalIdCache(region = "admins-by-username")
 @Data
 public class Admin {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @NaturalId(mutable = true)
     @Column(nullable = false, unique = true)
     private String username;
 
@@ -0,0 +1,32 @@
+package com.skillsphere.backend.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// Inactive subscriptions moved out of the hot subscriptions table by SubscriptionArchiver; ids are kept
+@Entity
+@Table(name = "subscriptions_archive", indexes = {
+    @Index(name = "idx_subscriptions_archive_user", columnList = "user_id")
+})
+@Data
+public class ArchivedSubscription {
+    @Id
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private String plan;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDateTime startDate;
+
+    @Column(name = "end_date")
+    private LocalDateTime endDate;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,24 @@
+package com.skillsphere.backend.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+@Entity
+@Table(name = "post_reaction_users", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_post_reaction_users", columnNames = {"post_id", "reaction_type", "user_id"})
+})
+@Data
+public class PostReactionUser {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "reaction_type", nullable = false, length = 32)
+    private String reactionType;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+}
@@ -0,0 +1,16 @@
+package com.skillsphere.backend.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+// Single row (id = 1) holding the last reaction log segment whose increments are in the database
+@Entity
+@Table(name = "reaction_log_checkpoint")
+@Data
+public class ReactionLogCheckpoint {
+    @Id
+    private Long id;
+
+    @Column(name = "last_segment", nullable = false)
+    private long lastSegment;
+}
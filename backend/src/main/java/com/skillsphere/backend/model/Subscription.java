@@ -7,7 +7,9 @@ import lombok.Data;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "subscriptions")
+@Table(name = "subscriptions", indexes = {
+    @Index(name = "idx_subscriptions_active_end_date", columnList = "active, end_date")
+})
 @Data
 public class Subscription {
     @Id
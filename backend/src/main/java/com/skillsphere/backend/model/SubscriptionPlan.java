@@ -3,6 +3,10 @@ package com.skillsphere.backend.model;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -10,16 +14,20 @@ import java.util.List;
 
 @Entity
 @Table(name = "subscription_plans")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "subscription-plans")
+@NaturalIdCache(region = "subscription-plans-by-name")
 @Data
 public class SubscriptionPlan {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @NaturalId(mutable = true)
     @Column(nullable = false, unique = true)
     private String name;
 
     @ElementCollection
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "subscription-plan-features")
     @CollectionTable(name = "subscription_plan_features", joinColumns = @JoinColumn(name = "plan_id"))
     @Column(name = "feature")
     private List<String> features = new ArrayList<>(); // Ensure this field exists
@@ -2,10 +2,8 @@ package com.skillsphere.backend.repository;
 
 import com.skillsphere.backend.model.Admin;
 
-import java.util.Optional;
-
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface AdminRepository extends JpaRepository<Admin, Long> {
-    Optional<Admin> findByUsername(String username);
-}
\ No newline at end of file
+// findByUsername is a natural-id lookup, see AdminRepositoryCustomImpl
+public interface AdminRepository extends JpaRepository<Admin, Long>, AdminRepositoryCustom {
+}
@@ -0,0 +1,9 @@
+package com.skillsphere.backend.repository;
+
+import com.skillsphere.backend.model.Admin;
+
+import java.util.Optional;
+
+public interface AdminRepositoryCustom {
+    Optional<Admin> findByUsername(String username);
+}
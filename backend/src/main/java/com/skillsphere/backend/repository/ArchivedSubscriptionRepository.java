@@ -0,0 +1,20 @@
+package com.skillsphere.backend.repository;
+
+import com.skillsphere.backend.model.ArchivedSubscription;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ArchivedSubscriptionRepository extends JpaRepository<ArchivedSubscription, Long> {
+    List<ArchivedSubscription> findByUserId(Long userId);
+
+    @Modifying
+    @Query(value = "INSERT INTO subscriptions_archive (id, user_id, plan, start_date, end_date, archived_at) "
+        + "SELECT id, user_id, plan, start_date, end_date, :archivedAt FROM subscriptions WHERE id IN (:ids) AND active = false",
+        nativeQuery = true)
+    int copyFromSubscriptions(@Param("ids") List<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+}
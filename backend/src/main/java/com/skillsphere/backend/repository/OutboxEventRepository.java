@@ -0,0 +1,29 @@
+package com.skillsphere.backend.repository;
+
+import com.skillsphere.backend.model.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    /**
+     * Pending events that are due now, skipping every event of a user whose oldest pending event is still
+     * waiting for a retry so that per-user order holds.
+     */
+    @Query("select e from OutboxEvent e where e.dispatchedAt is null and e.failedAt is null "
+        + "and not exists (select b.id from OutboxEvent b where b.userId = e.userId and b.id <= e.id "
+        + "and b.dispatchedAt is null and b.failedAt is null and b.nextAttemptAt > :now) "
+        + "order by e.id")
+    List<OutboxEvent> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("delete from OutboxEvent e where e.dispatchedAt < :cutoff")
+    int deleteDispatchedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,10 @@
+package com.skillsphere.backend.repository;
+
+import com.skillsphere.backend.model.PostReactionCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface PostReactionCountRepository extends JpaRepository<PostReactionCount, Long> {
+    Optional<PostReactionCount> findByPostIdAndReactionType(Long postId, String reactionType);
+}
@@ -0,0 +1,13 @@
+package com.skillsphere.backend.repository;
+
+import com.skillsphere.backend.model.PostReactionUser;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface PostReactionUserRepository extends JpaRepository<PostReactionUser, Long> {
+    @Query("select r.userId from PostReactionUser r where r.postId = :postId and r.reactionType = :reactionType")
+    List<Long> findUserIds(@Param("postId") Long postId, @Param("reactionType") String reactionType);
+}
@@ -0,0 +1,7 @@
+package com.skillsphere.backend.repository;
+
+import com.skillsphere.backend.model.ReactionLogCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ReactionLogCheckpointRepository extends JpaRepository<ReactionLogCheckpoint, Long> {
+}
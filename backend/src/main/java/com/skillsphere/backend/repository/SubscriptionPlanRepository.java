@@ -3,10 +3,13 @@ package com.skillsphere.backend.repository;
 
 import com.skillsphere.backend.model.SubscriptionPlan;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
-import java.util.Optional;
+import java.util.List;
 
-public interface SubscriptionPlanRepository extends JpaRepository<SubscriptionPlan, Long> {
-    boolean existsByName(String name);
-    Optional<SubscriptionPlan> findByName(String name); // Explicitly define this method
-}
\ No newline at end of file
+// findByName and existsByName are natural-id lookups, see SubscriptionPlanRepositoryCustomImpl
+public interface SubscriptionPlanRepository extends JpaRepository<SubscriptionPlan, Long>, SubscriptionPlanRepositoryCustom {
+    // Features in the same query; loading them lazily during serialization is one query per plan
+    @Query("select distinct p from SubscriptionPlan p left join fetch p.features order by p.id")
+    List<SubscriptionPlan> findAllWithFeatures();
+}
@@ -0,0 +1,10 @@
+package com.skillsphere.backend.repository;
+
+import com.skillsphere.backend.model.SubscriptionPlan;
+
+import java.util.Optional;
+
+public interface SubscriptionPlanRepositoryCustom {
+    Optional<SubscriptionPlan> findByName(String name);
+    boolean existsByName(String name);
+}
@@ -0,0 +1,35 @@
+package com.skillsphere.backend.repository;
+
+import com.skillsphere.backend.model.SubscriptionPlan;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Resolves plans through Hibernate's natural-id API so repeat lookups are served from the
+ * second-level cache instead of a query per call.
+ */
+@Transactional(readOnly = true)
+public class SubscriptionPlanRepositoryCustomImpl implements SubscriptionPlanRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<SubscriptionPlan> findByName(String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        return entityManager.unwrap(Session.class)
+            .bySimpleNaturalId(SubscriptionPlan.class)
+            .loadOptional(name);
+    }
+
+    @Override
+    public boolean existsByName(String name) {
+        return findByName(name).isPresent();
+    }
+}
@@ -3,11 +3,30 @@ package com.skillsphere.backend.repository;
 
 import com.skillsphere.backend.model.Subscription;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface SubscriptionRepository extends JpaRepository<Subscription, Long> {
     List<Subscription> findByUserId(Long userId);
     List<Subscription> findByUserIdAndActive(Long userId, boolean active);
     List<Subscription> findByPlan(String plan);
+    List<Subscription> findByActiveTrueAndEndDateBefore(LocalDateTime cutoff);
+
+    @Query("select s from Subscription s join fetch s.user")
+    List<Subscription> findAllWithUser();
+
+    // Age is end_date, or start_date when there is none; spelled out so the (active, end_date) index applies.
+    // The rows stay locked until the archiving transaction ends, so they cannot be reactivated midway.
+    @Query(value = "SELECT id FROM subscriptions WHERE active = false "
+        + "AND (end_date < :cutoff OR (end_date IS NULL AND start_date < :cutoff)) LIMIT :limit FOR UPDATE",
+        nativeQuery = true)
+    List<Long> lockArchivableIds(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    @Modifying
+    @Query("delete from Subscription s where s.id in :ids and s.active = false")
+    int deleteInactiveByIdIn(@Param("ids") List<Long> ids);
 }
\ No newline at end of file
@@ -0,0 +1,203 @@
+package com.skillsphere.backend.service;
+
+import com.skillsphere.backend.event.SubscriptionEvent;
+import com.skillsphere.backend.event.SubscriptionPlanEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fans committed subscription and plan changes out to admin consoles over server-sent events.
+ *
+ * Every event gets an id of the form {@code epoch-sequence} and is kept in a short replay ring so a
+ * reconnecting client can resume from its {@code Last-Event-ID}. The epoch is random per process, so an id
+ * handed out before a restart is recognised as foreign instead of being mistaken for a current sequence.
+ * Each client has a bounded queue drained by a small shared sender pool; a client whose queue overflows is
+ * disconnected rather than allowed to hold events back for everyone.
+ * When a client's last id is from another epoch or has already left the ring it gets a {@code reset} event
+ * and should reload.
+ */
+@Component
+public class AdminChangeBroadcaster {
+    private static final Logger logger = LoggerFactory.getLogger(AdminChangeBroadcaster.class);
+
+    private static class ChangeEvent {
+        final long id;
+        final String name;
+        final Object data;
+
+        ChangeEvent(long id, String name, Object data) {
+            this.id = id;
+            this.name = name;
+            this.data = data;
+        }
+    }
+
+    private static final ChangeEvent HEARTBEAT = new ChangeEvent(0, null, null);
+
+    private class Client {
+        final SseEmitter emitter;
+        final BlockingQueue<ChangeEvent> queue;
+        final AtomicBoolean draining = new AtomicBoolean();
+
+        Client(SseEmitter emitter, int bufferSize) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        boolean offer(ChangeEvent event) {
+            if (!queue.offer(event)) {
+                return false;
+            }
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+            return true;
+        }
+
+        void drain() {
+            do {
+                ChangeEvent event;
+                while ((event = queue.poll()) != null) {
+                    try {
+                        if (event == HEARTBEAT) {
+                            emitter.send(SseEmitter.event().comment("heartbeat"));
+                        } else {
+                            emitter.send(SseEmitter.event().id(eventId(event.id)).name(event.name).data(event.data));
+                        }
+                    } catch (IOException | IllegalStateException e) {
+                        disconnect(this, null);
+                        return;
+                    }
+                }
+                draining.set(false);
+            } while (!queue.isEmpty() && draining.compareAndSet(false, true));
+        }
+    }
+
+    private final String epoch = UUID.randomUUID().toString().substring(0, 8);
+    private final Set<Client> clients = ConcurrentHashMap.newKeySet();
+    private final ChangeEvent[] ring;
+    private final int clientBufferSize;
+    private final long emitterTimeoutMs;
+    private final ExecutorService sender;
+    private long lastId;
+
+    public AdminChangeBroadcaster(
+            @Value("${admin.events.replay-size:512}") int replaySize,
+            @Value("${admin.events.client-buffer-size:256}") int clientBufferSize,
+            @Value("${admin.events.timeout-ms:1800000}") long emitterTimeoutMs,
+            @Value("${admin.events.sender-threads:2}") int senderThreads) {
+        this.ring = new ChangeEvent[replaySize];
+        this.clientBufferSize = clientBufferSize;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.sender = Executors.newFixedThreadPool(senderThreads);
+    }
+
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Client client = new Client(emitter, clientBufferSize);
+        emitter.onCompletion(() -> clients.remove(client));
+        emitter.onTimeout(() -> disconnect(client, null));
+        emitter.onError(e -> clients.remove(client));
+
+        // Replay and registration happen under the publish lock so nothing is missed or sent twice
+        Long lastSequence = sequenceOf(lastEventId);
+        synchronized (this) {
+            if (lastEventId != null && (lastSequence == null || lastSequence != lastId)) {
+                long oldest = Math.max(1, lastId - ring.length + 1);
+                // A foreign epoch or an id ahead of ours means a previous process; too far behind, it missed events
+                if (lastSequence == null || lastSequence > lastId || lastSequence + 1 < oldest
+                        || lastId - lastSequence > clientBufferSize) {
+                    client.offer(new ChangeEvent(lastId, "reset", Map.of("lastEventId", eventId(lastId))));
+                } else {
+                    for (long id = lastSequence + 1; id <= lastId; id++) {
+                        client.offer(ring[(int) (id % ring.length)]);
+                    }
+                }
+            }
+            clients.add(client);
+        }
+        logger.info("Admin change stream subscribed, {} clients connected", clients.size());
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSubscriptionEvent(SubscriptionEvent event) {
+        publish("subscription." + event.getType().name().toLowerCase(), event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSubscriptionPlanEvent(SubscriptionPlanEvent event) {
+        publish("plan." + event.getType().name().toLowerCase(), event);
+    }
+
+    @Scheduled(fixedDelayString = "${admin.events.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Client client : clients) {
+            if (!client.offer(HEARTBEAT)) {
+                disconnect(client, "buffer full");
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        clients.forEach(client -> client.emitter.complete());
+        sender.shutdownNow();
+    }
+
+    private String eventId(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    /** Sequence number of an id issued by this process, or null for ids from another epoch. */
+    private Long sequenceOf(String eventId) {
+        if (eventId == null || !eventId.startsWith(epoch + "-")) {
+            return null;
+        }
+        try {
+            return Long.parseLong(eventId.substring(epoch.length() + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private synchronized void publish(String name, Object data) {
+        ChangeEvent event = new ChangeEvent(++lastId, name, data);
+        ring[(int) (event.id % ring.length)] = event;
+        for (Client client : clients) {
+            if (!client.offer(event)) {
+                disconnect(client, "buffer full");
+            }
+        }
+    }
+
+    private void disconnect(Client client, String reason) {
+        if (clients.remove(client) && reason != null) {
+            logger.warn("Dropping admin change stream client: {}", reason);
+        }
+        try {
+            client.emitter.complete();
+        } catch (IllegalStateException e) {
+            logger.debug("Admin change stream already completed");
+        }
+    }
+}
@@ -7,6 +7,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 public class AdminService {
@@ -19,6 +21,12 @@ public class AdminService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private PasswordRehashService passwordRehashService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     public Admin authenticate(String username, String password) {
         logger.info("Authenticating admin: {}", username);
         Admin admin = adminRepository.findByUsername(username).orElse(null);
@@ -28,6 +36,9 @@ public class AdminService {
         }
         if (passwordEncoder.matches(password, admin.getPassword())) {
             logger.info("Admin authenticated successfully: {}", username);
+            String verifiedHash = admin.getPassword();
+            passwordRehashService.rehashIfNeeded(password, verifiedHash,
+                newHash -> storeRehashedPassword(admin.getId(), verifiedHash, newHash));
             return admin;
         }
         logger.warn("Password mismatch for admin: {}", username);
@@ -42,4 +53,39 @@ public class AdminService {
                     return new RuntimeException("Admin not found with id: " + adminId);
                 });
     }
+
+    // Updates and deletes go through the entity so Hibernate invalidates the admins and admins-by-username
+    // cache regions; a bulk JPQL update here would leave stale natural-id entries behind.
+    @Transactional
+    public Admin updateAdmin(Long adminId, String username, String password) {
+        Admin admin = findById(adminId);
+        if (username != null && !username.trim().isEmpty() && !username.equals(admin.getUsername())) {
+            if (adminRepository.findByUsername(username).isPresent()) {
+                throw new IllegalArgumentException("Admin with username '" + username + "' already exists");
+            }
+            logger.info("Renaming admin {} to {}", admin.getUsername(), username);
+            admin.setUsername(username);
+        }
+        if (password != null && !password.isEmpty()) {
+            admin.setPassword(passwordEncoder.encode(password));
+        }
+        return adminRepository.save(admin);
+    }
+
+    @Transactional
+    public void deleteAdmin(Long adminId) {
+        Admin admin = findById(adminId);
+        logger.info("Deleting admin: {}", admin.getUsername());
+        adminRepository.delete(admin);
+    }
+
+    // Runs on the rehash thread; skips the write if the password was changed since it was verified
+    private void storeRehashedPassword(Long adminId, String verifiedHash, String newHash) {
+        transactionTemplate.executeWithoutResult(status -> adminRepository.findById(adminId)
+            .filter(admin -> verifiedHash.equals(admin.getPassword()))
+            .ifPresent(admin -> {
+                admin.setPassword(newHash);
+                logger.info("Rehashed password for admin: {}", admin.getUsername());
+            }));
+    }
 }
\ No newline at end of file
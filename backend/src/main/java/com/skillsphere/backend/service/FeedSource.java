@@ -0,0 +1,17 @@
+package com.skillsphere.backend.service;
+
+/**
+ * Read access to the follow graph and post table that TimelineService needs to rebuild timelines.
+ * Implemented by the posts module; every method is expected to be a single query.
+ */
+public interface FeedSource {
+    long[] followerIds(long authorId);
+
+    long[] followeeIds(long userId);
+
+    /** Follower counts for the given authors, in the same order. */
+    long[] followerCounts(long[] authorIds);
+
+    /** Ids of the newest posts by any of the given authors with id below {@code beforePostId}, newest first. */
+    long[] recentPostIds(long[] authorIds, long beforePostId, int limit);
+}
@@ -0,0 +1,46 @@
+package com.skillsphere.backend.service;
+
+import com.skillsphere.backend.model.OutboxEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends each batch as tab-separated lines to a local file. Useful for tests and for replaying events by hand.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.sink.file.path")
+public class FileOutboxSink implements OutboxSink {
+
+    private final Path path;
+
+    public FileOutboxSink(@Value("${outbox.sink.file.path}") String path) {
+        this.path = Paths.get(path);
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxEvent> events) {
+        StringBuilder batch = new StringBuilder();
+        for (OutboxEvent event : events) {
+            batch.append(event.getId()).append('\t')
+                .append(event.getUserId()).append('\t')
+                .append(event.getEventType()).append('\t')
+                .append(event.getPayload()).append('\n');
+        }
+        try {
+            Files.writeString(path, batch, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write outbox events to " + path, e);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.skillsphere.backend.service;
+
+import com.skillsphere.backend.model.OutboxEvent;
+import com.skillsphere.backend.repository.OutboxEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Drains the outbox table in batches and hands each batch to every {@link OutboxSink}.
+ *
+ * Delivery is at-least-once. A batch is marked dispatched once all sinks accept it. If a sink rejects it,
+ * the batch is retried one event at a time, so only the events that actually fail are rescheduled with
+ * exponential backoff. While a user's oldest pending event waits for a retry, that user's later events are
+ * held back so per-user order is preserved; other users are not affected. An event that fails
+ * {@code outbox.dispatch.max-attempts} times is parked with {@code failed_at} set and its user's later
+ * events go ahead. Only one instance should run the dispatcher; set {@code outbox.dispatch.enabled=false}
+ * on the others.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.dispatch.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxDispatcher {
+    private static final Logger logger = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private List<OutboxSink> sinks;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${outbox.dispatch.batch-size:100}")
+    private int batchSize;
+
+    @Value("${outbox.dispatch.initial-backoff-ms:1000}")
+    private long initialBackoffMs;
+
+    @Value("${outbox.dispatch.max-backoff-ms:300000}")
+    private long maxBackoffMs;
+
+    @Value("${outbox.dispatch.max-attempts:15}")
+    private int maxAttempts;
+
+    @Value("${outbox.retention-hours:72}")
+    private long retentionHours;
+
+    @Scheduled(fixedDelayString = "${outbox.dispatch.interval-ms:1000}")
+    public void dispatch() {
+        // Keep draining while full batches go out cleanly; a partial or failed batch waits for the next tick
+        while (Boolean.TRUE.equals(transactionTemplate.execute(status -> dispatchBatch()))) {
+            logger.debug("Outbox batch dispatched, polling again");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.purge.interval-ms:3600000}")
+    public void purgeDispatched() {
+        int purged = outboxEventRepository.deleteDispatchedBefore(LocalDateTime.now().minusHours(retentionHours));
+        if (purged > 0) {
+            logger.info("Purged {} dispatched outbox events", purged);
+        }
+    }
+
+    private boolean dispatchBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> ready = outboxEventRepository.findDue(now, PageRequest.of(0, batchSize));
+        if (ready.isEmpty()) {
+            return false;
+        }
+
+        try {
+            publish(ready);
+        } catch (Exception e) {
+            logger.warn("Failed to dispatch batch of {} outbox events, retrying one at a time: {}", ready.size(), e.getMessage());
+            return dispatchIndividually(ready, now) && ready.size() == batchSize;
+        }
+
+        // Managed entities; the updates are flushed as one JDBC batch on commit
+        ready.forEach(event -> event.setDispatchedAt(now));
+        logger.debug("Dispatched {} outbox events", ready.size());
+        return ready.size() == batchSize;
+    }
+
+    /**
+     * Publishes each event on its own so a poison event only holds back its own user. Returns false if any
+     * event failed.
+     */
+    private boolean dispatchIndividually(List<OutboxEvent> events, LocalDateTime now) {
+        Set<Long> blockedUsers = new HashSet<>();
+        for (OutboxEvent event : events) {
+            if (blockedUsers.contains(event.getUserId())) {
+                // Left pending; the next poll skips it until the failed event ahead of it is resolved
+                continue;
+            }
+            try {
+                publish(List.of(event));
+                event.setDispatchedAt(now);
+            } catch (Exception e) {
+                recordFailure(event, e, now);
+                if (event.getFailedAt() == null) {
+                    blockedUsers.add(event.getUserId());
+                }
+            }
+        }
+        return blockedUsers.isEmpty();
+    }
+
+    private void publish(List<OutboxEvent> events) {
+        for (OutboxSink sink : sinks) {
+            sink.publish(events);
+        }
+    }
+
+    private void recordFailure(OutboxEvent event, Exception e, LocalDateTime now) {
+        String error = e.getMessage() != null && e.getMessage().length() > 500 ? e.getMessage().substring(0, 500) : e.getMessage();
+        event.setAttempts(event.getAttempts() + 1);
+        event.setLastError(error);
+        if (event.getAttempts() >= maxAttempts) {
+            event.setFailedAt(now);
+            logger.error("Parking outbox event {} for user {} after {} attempts: {}",
+                event.getId(), event.getUserId(), event.getAttempts(), error);
+        } else {
+            event.setNextAttemptAt(now.plusNanos(backoffMs(event.getAttempts()) * 1_000_000L));
+            logger.warn("Outbox event {} for user {} failed (attempt {}): {}",
+                event.getId(), event.getUserId(), event.getAttempts(), error);
+        }
+    }
+
+    private long backoffMs(int attempts) {
+        long backoff = initialBackoffMs << Math.min(attempts - 1, 20);
+        return Math.min(backoff, maxBackoffMs);
+    }
+}
@@ -0,0 +1,46 @@
+package com.skillsphere.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillsphere.backend.event.SubscriptionEvent;
+import com.skillsphere.backend.model.OutboxEvent;
+import com.skillsphere.backend.repository.OutboxEventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Writes subscription events to the outbox table. The listener runs synchronously on the publishing
+ * thread, so the row commits or rolls back together with the subscription change.
+ */
+@Service
+public class OutboxService {
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onSubscriptionEvent(SubscriptionEvent event) {
+        OutboxEvent outboxEvent = new OutboxEvent();
+        outboxEvent.setAggregateType("subscription");
+        outboxEvent.setAggregateId(event.getSubscriptionId());
+        outboxEvent.setUserId(event.getUserId());
+        outboxEvent.setEventType("subscription." + event.getType().name().toLowerCase());
+        outboxEvent.setPayload(toJson(event));
+        outboxEventRepository.save(outboxEvent);
+    }
+
+    private String toJson(SubscriptionEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize subscription event: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.skillsphere.backend.service;
+
+import com.skillsphere.backend.model.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * Downstream target for outbox events (billing, email, ...). Each call receives a batch in id order. If a
+ * call throws, the dispatcher retries the batch one event at a time, so implementations must tolerate
+ * duplicates.
+ */
+public interface OutboxSink {
+    void publish(List<OutboxEvent> events);
+}
@@ -0,0 +1,55 @@
+package com.skillsphere.backend.service;
+
+import com.skillsphere.backend.config.PasswordPolicy;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Re-encodes a password after a successful login when its stored hash does not match PasswordPolicy.
+ * The work runs on a single background thread so it never adds to login latency; when the queue is full
+ * the rehash is skipped and simply happens on a later login.
+ */
+@Service
+public class PasswordRehashService {
+    private static final Logger logger = LoggerFactory.getLogger(PasswordRehashService.class);
+
+    @Autowired
+    private PasswordPolicy passwordPolicy;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(100), new ThreadPoolExecutor.DiscardPolicy());
+
+    /**
+     * @param store called on the background thread with the new hash; should only overwrite the stored hash
+     *              if it is still the one that was verified
+     */
+    public void rehashIfNeeded(String rawPassword, String encodedPassword, Consumer<String> store) {
+        if (!passwordPolicy.needsRehash(encodedPassword)) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                store.accept(passwordEncoder.encode(rawPassword));
+            } catch (Exception e) {
+                logger.warn("Failed to rehash password: {}", e.getMessage());
+            }
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,285 @@
+package com.skillsphere.backend.service;
+
+import com.skillsphere.backend.model.PostReactionCount;
+import com.skillsphere.backend.model.ReactionLogCheckpoint;
+import com.skillsphere.backend.repository.PostReactionCountRepository;
+import com.skillsphere.backend.repository.PostReactionUserRepository;
+import com.skillsphere.backend.repository.ReactionLogCheckpointRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Data;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Paths;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Write-behind reaction counts per (post, reaction type).
+ *
+ * An accepted reaction is appended to the local {@link ReactionLog}, recorded in the key's dedupe set and
+ * added to its pending count; reads come straight from memory. A scheduled flush closes the current log
+ * segment and applies it to MySQL in one transaction with the segment checkpoint: reactor rows go in with
+ * INSERT IGNORE and each count grows only by the rows that were actually inserted, so a replayed segment or
+ * a reaction already recorded by another instance is never counted twice. Counters are loaded lazily from
+ * the database on first use, the reactor set only on the first reaction, and both are dropped again once
+ * idle and flushed. Loaded counts are refreshed from the database every
+ * {@code reactions.refresh-interval-ms} to pick up reactions flushed by other instances.
+ *
+ * The log is fsynced every {@code reactions.log.sync-interval-ms}, not on each append. A JVM crash loses
+ * nothing, but a host crash or power loss can drop reactions acknowledged within that last interval.
+ *
+ * The flush relies on per-row update counts, so the JDBC URL must not set {@code rewriteBatchedStatements}.
+ */
+@Service
+public class ReactionCounterService {
+    private static final Logger logger = LoggerFactory.getLogger(ReactionCounterService.class);
+
+    private static final Pattern REACTION_TYPE = Pattern.compile("[A-Za-z_]{1,32}");
+    private static final int REFRESH_CHUNK_SIZE = 500;
+
+    @Data
+    private static class ReactionKey {
+        private final long postId;
+        private final String reactionType;
+    }
+
+    // Guarded by its own monitor, so base and pending always change together
+    private static class ReactionState {
+        // Count in the database as of the last load, flush or refresh
+        long base;
+        // Reactions accepted here that are not yet part of base
+        long pending;
+        // Loaded on the first reaction; reads never need it
+        LongHashSet reactors;
+        long lastSegment;
+        volatile long lastTouchedMillis = System.currentTimeMillis();
+        boolean evicted;
+
+        ReactionState(long base) {
+            this.base = base;
+        }
+
+        long count() {
+            return base + pending;
+        }
+    }
+
+    @Autowired
+    private PostReactionCountRepository postReactionCountRepository;
+
+    @Autowired
+    private PostReactionUserRepository postReactionUserRepository;
+
+    @Autowired
+    private ReactionLogCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${reactions.log.dir:./reaction-log}")
+    private String logDirectory;
+
+    @Value("${reactions.idle-evict-ms:600000}")
+    private long idleEvictMs;
+
+    @Value("${reactions.refresh-interval-ms:60000}")
+    private long refreshIntervalMs;
+
+    private final Map<ReactionKey, ReactionState> states = new ConcurrentHashMap<>();
+    private ReactionLog log;
+    private volatile long flushedSegment;
+    private long lastRefreshMillis = System.currentTimeMillis();
+
+    @PostConstruct
+    void init() {
+        flushedSegment = checkpointRepository.findById(1L).map(ReactionLogCheckpoint::getLastSegment).orElse(0L);
+        log = new ReactionLog(Paths.get(logDirectory), flushedSegment);
+        // Replay whatever the previous process logged but did not flush before serving any reads
+        flushClosedSegments();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+        log.close();
+    }
+
+    /**
+     * Records a reaction. Returns false if the user already reacted to the post with this type.
+     */
+    public boolean addReaction(long postId, long userId, String reactionType) {
+        if (!REACTION_TYPE.matcher(reactionType).matches()) {
+            throw new IllegalArgumentException("Invalid reaction type: " + reactionType);
+        }
+        ReactionKey key = new ReactionKey(postId, reactionType);
+        while (true) {
+            ReactionState state = states.computeIfAbsent(key, this::load);
+            synchronized (state) {
+                if (state.evicted) {
+                    continue;
+                }
+                if (state.reactors == null) {
+                    List<Long> userIds = postReactionUserRepository.findUserIds(postId, reactionType);
+                    state.reactors = new LongHashSet(userIds.size());
+                    userIds.forEach(state.reactors::add);
+                }
+                if (state.reactors.contains(userId)) {
+                    return false;
+                }
+                state.lastSegment = log.append(postId, userId, reactionType);
+                state.reactors.add(userId);
+                state.lastTouchedMillis = System.currentTimeMillis();
+                state.pending++;
+            }
+            return true;
+        }
+    }
+
+    public long getCount(long postId, String reactionType) {
+        ReactionState state = states.computeIfAbsent(new ReactionKey(postId, reactionType), this::load);
+        synchronized (state) {
+            state.lastTouchedMillis = System.currentTimeMillis();
+            return state.count();
+        }
+    }
+
+    public Map<String, Long> getCounts(long postId, List<String> reactionTypes) {
+        Map<String, Long> counts = new HashMap<>();
+        for (String reactionType : reactionTypes) {
+            counts.put(reactionType, getCount(postId, reactionType));
+        }
+        return counts;
+    }
+
+    @Scheduled(fixedDelayString = "${reactions.log.sync-interval-ms:200}")
+    public void syncLog() {
+        log.sync();
+    }
+
+    @Scheduled(fixedDelayString = "${reactions.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        log.rotate();
+        flushClosedSegments();
+        if (System.currentTimeMillis() - lastRefreshMillis >= refreshIntervalMs) {
+            refreshCounts();
+            lastRefreshMillis = System.currentTimeMillis();
+        }
+        evictIdle();
+    }
+
+    private synchronized void flushClosedSegments() {
+        for (long segment : log.closedSegments()) {
+            if (segment > flushedSegment) {
+                flushSegment(segment);
+            }
+            log.delete(segment);
+        }
+    }
+
+    private void flushSegment(long segment) {
+        Map<ReactionKey, Long> logged = new HashMap<>();
+        List<Object[]> reactors = new ArrayList<>();
+        log.read(segment, fields -> {
+            long postId = Long.parseLong(fields[0]);
+            logged.merge(new ReactionKey(postId, fields[2]), 1L, Long::sum);
+            reactors.add(new Object[] {postId, fields[2], Long.parseLong(fields[1])});
+        });
+
+        Map<ReactionKey, Long> inserted = new HashMap<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            inserted.clear();
+            if (!reactors.isEmpty()) {
+                int[] rows = jdbcTemplate.batchUpdate(
+                    "INSERT IGNORE INTO post_reaction_users (post_id, reaction_type, user_id) VALUES (?, ?, ?)", reactors);
+                for (int i = 0; i < rows.length; i++) {
+                    if (rows[i] == Statement.SUCCESS_NO_INFO) {
+                        throw new IllegalStateException("Reaction flush needs per-row update counts; disable rewriteBatchedStatements");
+                    }
+                    if (rows[i] > 0) {
+                        Object[] row = reactors.get(i);
+                        inserted.merge(new ReactionKey((Long) row[0], (String) row[1]), 1L, Long::sum);
+                    }
+                }
+            }
+            if (!inserted.isEmpty()) {
+                List<Object[]> counts = new ArrayList<>(inserted.size());
+                inserted.forEach((key, delta) -> counts.add(new Object[] {key.getPostId(), key.getReactionType(), delta}));
+                jdbcTemplate.batchUpdate(
+                    "INSERT INTO post_reaction_counts (post_id, reaction_type, reaction_count) VALUES (?, ?, ?) "
+                        + "ON DUPLICATE KEY UPDATE reaction_count = reaction_count + VALUES(reaction_count)", counts);
+            }
+            jdbcTemplate.update(
+                "INSERT INTO reaction_log_checkpoint (id, last_segment) VALUES (1, ?) "
+                    + "ON DUPLICATE KEY UPDATE last_segment = VALUES(last_segment)", segment);
+        });
+        flushedSegment = segment;
+
+        // Move the flushed reactions from pending into base, counting only what the database accepted
+        logged.forEach((key, count) -> {
+            ReactionState state = states.get(key);
+            if (state != null) {
+                synchronized (state) {
+                    state.base += inserted.getOrDefault(key, 0L);
+                    state.pending -= count;
+                }
+            }
+        });
+        logger.debug("Flushed reaction log segment {}: {} reactions, {} new, over {} counters",
+            segment, reactors.size(), inserted.values().stream().mapToLong(Long::longValue).sum(), logged.size());
+    }
+
+    private void refreshCounts() {
+        List<Long> postIds = states.keySet().stream().map(ReactionKey::getPostId).distinct().collect(Collectors.toList());
+        RowCallbackHandler refresh = rs -> {
+            ReactionState state = states.get(new ReactionKey(rs.getLong("post_id"), rs.getString("reaction_type")));
+            if (state != null) {
+                long count = rs.getLong("reaction_count");
+                synchronized (state) {
+                    state.base = count;
+                }
+            }
+        };
+        for (int from = 0; from < postIds.size(); from += REFRESH_CHUNK_SIZE) {
+            List<Long> chunk = postIds.subList(from, Math.min(from + REFRESH_CHUNK_SIZE, postIds.size()));
+            jdbcTemplate.query("SELECT post_id, reaction_type, reaction_count FROM post_reaction_counts WHERE post_id IN ("
+                + String.join(",", Collections.nCopies(chunk.size(), "?")) + ")", refresh, chunk.toArray());
+        }
+    }
+
+    private void evictIdle() {
+        long cutoff = System.currentTimeMillis() - idleEvictMs;
+        states.forEach((key, state) -> {
+            synchronized (state) {
+                if (state.lastTouchedMillis < cutoff && state.lastSegment <= flushedSegment) {
+                    state.evicted = true;
+                    states.remove(key, state);
+                }
+            }
+        });
+    }
+
+    private ReactionState load(ReactionKey key) {
+        return new ReactionState(postReactionCountRepository.findByPostIdAndReactionType(key.getPostId(), key.getReactionType())
+            .map(PostReactionCount::getReactionCount)
+            .orElse(0L));
+    }
+}
@@ -0,0 +1,144 @@
+package com.skillsphere.backend.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Append-only log of accepted reactions, split into numbered segment files. Appends go to the open
+ * segment; {@link #rotate()} closes it so it can be flushed to the database and then deleted.
+ * Each line is {@code postId,userId,reactionType;}; a torn last line from a crash lacks the terminator
+ * and is skipped on read. Appends reach the disk only on {@link #sync()} or {@link #rotate()}, so a host
+ * crash can lose whatever was appended since the last sync.
+ */
+public class ReactionLog {
+
+    private final Path directory;
+    private FileChannel channel;
+    private long segment;
+    private boolean dirty;
+
+    public ReactionLog(Path directory, long lastFlushedSegment) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create reaction log directory " + directory, e);
+        }
+        long highest = lastFlushedSegment;
+        for (long existing : closedSegments()) {
+            highest = Math.max(highest, existing);
+        }
+        this.segment = highest + 1;
+    }
+
+    /** Appends one reaction and returns the segment it was written to. */
+    public synchronized long append(long postId, long userId, String reactionType) {
+        try {
+            if (channel == null) {
+                channel = FileChannel.open(segmentPath(segment),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            }
+            String line = postId + "," + userId + "," + reactionType + ";\n";
+            ByteBuffer buffer = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            dirty = true;
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append to reaction log", e);
+        }
+    }
+
+    /** Forces written entries to disk. */
+    public synchronized void sync() {
+        if (channel != null && dirty) {
+            try {
+                channel.force(false);
+                dirty = false;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to sync reaction log", e);
+            }
+        }
+    }
+
+    /**
+     * Closes the open segment, if it has any entries, and returns the number of the newest closed segment.
+     */
+    public synchronized long rotate() {
+        if (channel == null) {
+            return segment - 1;
+        }
+        try {
+            channel.force(false);
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close reaction log segment " + segment, e);
+        }
+        channel = null;
+        dirty = false;
+        return segment++;
+    }
+
+    /** Numbers of segment files on disk that are not open for appends, oldest first. */
+    public synchronized List<Long> closedSegments() {
+        List<Long> segments = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "reactions-*.log")) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                long number = Long.parseLong(name.substring("reactions-".length(), name.length() - ".log".length()));
+                if (channel == null || number != segment) {
+                    segments.add(number);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list reaction log segments", e);
+        }
+        segments.sort(Long::compare);
+        return segments;
+    }
+
+    public void read(long segmentNumber, Consumer<String[]> entryConsumer) {
+        try (BufferedReader reader = Files.newBufferedReader(segmentPath(segmentNumber), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.endsWith(";")) {
+                    continue;
+                }
+                String[] fields = line.substring(0, line.length() - 1).split(",");
+                if (fields.length == 3 && !fields[2].isEmpty()) {
+                    entryConsumer.accept(fields);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read reaction log segment " + segmentNumber, e);
+        }
+    }
+
+    public void delete(long segmentNumber) {
+        try {
+            Files.deleteIfExists(segmentPath(segmentNumber));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to delete reaction log segment " + segmentNumber, e);
+        }
+    }
+
+    public synchronized void close() {
+        rotate();
+    }
+
+    private Path segmentPath(long segmentNumber) {
+        return directory.resolve("reactions-" + segmentNumber + ".log");
+    }
+}
@@ -0,0 +1,87 @@
+package com.skillsphere.backend.service;
+
+import com.skillsphere.backend.repository.ArchivedSubscriptionRepository;
+import com.skillsphere.backend.repository.SubscriptionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves inactive subscriptions older than {@code subscription.archive.min-age-days} from subscriptions to
+ * subscriptions_archive. Each batch is locked, copied and deleted in its own short transaction so row locks
+ * on the hot table are held only briefly, and a subscription reactivated concurrently is never archived.
+ */
+@Component
+@ConditionalOnProperty(name = "subscription.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class SubscriptionArchiver {
+    private static final Logger logger = LoggerFactory.getLogger(SubscriptionArchiver.class);
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private ArchivedSubscriptionRepository archivedSubscriptionRepository;
+
+    @Autowired
+    private SubscriptionSearchIndex subscriptionSearchIndex;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${subscription.archive.min-age-days:90}")
+    private long minAgeDays;
+
+    @Value("${subscription.archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${subscription.archive.batch-pause-ms:100}")
+    private long batchPauseMs;
+
+    @Scheduled(cron = "${subscription.archive.cron:0 30 3 * * *}")
+    public void archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(minAgeDays);
+        int total = 0;
+        List<Long> archived;
+        do {
+            archived = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            subscriptionSearchIndex.removeAll(archived);
+            total += archived.size();
+            if (archived.size() == batchSize && !pause()) {
+                break;
+            }
+        } while (archived.size() == batchSize);
+        logger.info("Archived {} inactive subscriptions older than {}", total, cutoff);
+    }
+
+    private List<Long> archiveBatch(LocalDateTime cutoff) {
+        List<Long> ids = subscriptionRepository.lockArchivableIds(cutoff, batchSize);
+        if (!ids.isEmpty()) {
+            int copied = archivedSubscriptionRepository.copyFromSubscriptions(ids, LocalDateTime.now());
+            int deleted = subscriptionRepository.deleteInactiveByIdIn(ids);
+            if (copied != ids.size() || deleted != ids.size()) {
+                // Cannot happen while the rows are locked; roll back rather than risk losing a row
+                throw new IllegalStateException("Archive batch changed underneath: selected " + ids.size()
+                    + ", copied " + copied + ", deleted " + deleted);
+            }
+        }
+        return ids;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(batchPauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package com.skillsphere.backend.service;
+
+import com.skillsphere.backend.event.SubscriptionEvent;
+import com.skillsphere.backend.model.Subscription;
+import com.skillsphere.backend.repository.SubscriptionRepository;
+import lombok.Value;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * In-memory index of subscriptions for the admin search endpoint.
+ *
+ * Usernames are indexed twice: a sorted map for prefix queries and a trigram map for substring queries
+ * of three or more characters. Both resolve to user ids, which join to subscription ids. Plan and active
+ * flag have their own posting sets. All subscription id sets are kept sorted, so a page is read by walking
+ * the smallest matching set from the newest id down and checking the others, never by sorting the whole
+ * result. The index is kept current from committed SubscriptionEvents and rebuilt from the database on a
+ * schedule; changes that arrive during a rebuild are replayed onto the fresh copy before it is swapped in.
+ */
+@Component
+public class SubscriptionSearchIndex {
+    private static final Logger logger = LoggerFactory.getLogger(SubscriptionSearchIndex.class);
+
+    public enum MatchMode { PREFIX, SUBSTRING }
+
+    @Value
+    public static class Hit {
+        Long subscriptionId;
+        Long userId;
+        String username;
+        String plan;
+        boolean active;
+        LocalDateTime startDate;
+        LocalDateTime endDate;
+    }
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private IndexState state = new IndexState();
+    private List<Consumer<IndexState>> pendingDuringRebuild;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSubscriptionEvent(SubscriptionEvent event) {
+        update(indexState -> indexState.apply(event));
+    }
+
+    public void removeAll(Collection<Long> subscriptionIds) {
+        update(indexState -> subscriptionIds.forEach(indexState::remove));
+    }
+
+    private void update(Consumer<IndexState> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(state);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${subscription.search.rebuild-interval-ms:900000}")
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        IndexState fresh = new IndexState();
+        try {
+            for (Subscription subscription : subscriptionRepository.findAllWithUser()) {
+                fresh.put(toHit(subscription));
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            logger.error("Failed to rebuild subscription search index: {}", e.getMessage());
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild.forEach(change -> change.accept(fresh));
+            pendingDuringRebuild = null;
+            state = fresh;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Rebuilt subscription search index with {} subscriptions", fresh.bySubscription.size());
+    }
+
+    public Page<Hit> search(String username, MatchMode mode, String plan, Boolean active, int page, int size) {
+        lock.readLock().lock();
+        try {
+            return state.search(normalize(username), mode, normalize(plan), active, PageRequest.of(page, size));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Hit toHit(Subscription subscription) {
+        return new Hit(subscription.getId(), subscription.getUser().getId(), subscription.getUser().getUsername(),
+            subscription.getPlan(), subscription.isActive(), subscription.getStartDate(), subscription.getEndDate());
+    }
+
+    private static String normalize(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> trigrams(String value) {
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= value.length(); i++) {
+            trigrams.add(value.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    /**
+     * The index structures themselves. Not thread-safe; guarded by the enclosing lock.
+     */
+    private static class IndexState {
+        final NavigableMap<Long, Hit> bySubscription = new TreeMap<>();
+        final Map<Long, NavigableSet<Long>> subscriptionsByUser = new HashMap<>();
+        final Map<Long, String> usernameByUser = new HashMap<>();
+        final NavigableMap<String, Set<Long>> usersByUsername = new TreeMap<>();
+        final Map<String, Set<Long>> usersByTrigram = new HashMap<>();
+        final Map<String, NavigableSet<Long>> subscriptionsByPlan = new HashMap<>();
+        final NavigableSet<Long> activeSubscriptions = new TreeSet<>();
+        final NavigableSet<Long> inactiveSubscriptions = new TreeSet<>();
+
+        void apply(SubscriptionEvent event) {
+            if (event.getType() == SubscriptionEvent.Type.DELETED) {
+                remove(event.getSubscriptionId());
+            } else {
+                put(new Hit(event.getSubscriptionId(), event.getUserId(), event.getUsername(), event.getPlan(),
+                    event.isActive(), event.getStartDate(), event.getEndDate()));
+            }
+        }
+
+        void put(Hit hit) {
+            remove(hit.getSubscriptionId());
+            bySubscription.put(hit.getSubscriptionId(), hit);
+            subscriptionsByUser.computeIfAbsent(hit.getUserId(), k -> new TreeSet<>()).add(hit.getSubscriptionId());
+            subscriptionsByPlan.computeIfAbsent(normalize(hit.getPlan()), k -> new TreeSet<>()).add(hit.getSubscriptionId());
+            (hit.isActive() ? activeSubscriptions : inactiveSubscriptions).add(hit.getSubscriptionId());
+
+            String username = normalize(hit.getUsername());
+            String previous = usernameByUser.get(hit.getUserId());
+            if (username != null && !username.equals(previous)) {
+                if (previous != null) {
+                    unindexUser(hit.getUserId(), previous);
+                }
+                usernameByUser.put(hit.getUserId(), username);
+                usersByUsername.computeIfAbsent(username, k -> new HashSet<>()).add(hit.getUserId());
+                for (String trigram : trigrams(username)) {
+                    usersByTrigram.computeIfAbsent(trigram, k -> new HashSet<>()).add(hit.getUserId());
+                }
+            }
+        }
+
+        void remove(Long subscriptionId) {
+            Hit hit = bySubscription.remove(subscriptionId);
+            if (hit == null) {
+                return;
+            }
+            removeFrom(subscriptionsByPlan, normalize(hit.getPlan()), subscriptionId);
+            (hit.isActive() ? activeSubscriptions : inactiveSubscriptions).remove(subscriptionId);
+            Set<Long> userSubscriptions = subscriptionsByUser.get(hit.getUserId());
+            userSubscriptions.remove(subscriptionId);
+            if (userSubscriptions.isEmpty()) {
+                subscriptionsByUser.remove(hit.getUserId());
+                String username = usernameByUser.remove(hit.getUserId());
+                if (username != null) {
+                    unindexUser(hit.getUserId(), username);
+                }
+            }
+        }
+
+        private void unindexUser(Long userId, String username) {
+            removeFrom(usersByUsername, username, userId);
+            for (String trigram : trigrams(username)) {
+                removeFrom(usersByTrigram, trigram, userId);
+            }
+        }
+
+        private static <S extends Set<Long>> void removeFrom(Map<String, S> postings, String key, Long id) {
+            Set<Long> ids = postings.get(key);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    postings.remove(key);
+                }
+            }
+        }
+
+        Page<Hit> search(String username, MatchMode mode, String plan, Boolean active, Pageable pageable) {
+            List<NavigableSet<Long>> filters = new ArrayList<>();
+            if (username != null) {
+                NavigableSet<Long> userSubscriptions = new TreeSet<>();
+                for (Long userId : matchUsers(username, mode)) {
+                    userSubscriptions.addAll(subscriptionsByUser.getOrDefault(userId, Collections.emptyNavigableSet()));
+                }
+                filters.add(userSubscriptions);
+            }
+            if (plan != null) {
+                filters.add(subscriptionsByPlan.getOrDefault(plan, Collections.emptyNavigableSet()));
+            }
+            if (active != null) {
+                filters.add(active ? activeSubscriptions : inactiveSubscriptions);
+            }
+            if (filters.isEmpty()) {
+                filters.add(bySubscription.navigableKeySet());
+            }
+
+            // Walk the smallest set newest first and probe the others; with a single filter the total is its size
+            filters.sort(Comparator.comparingInt(Set::size));
+            NavigableSet<Long> driver = filters.get(0);
+            List<NavigableSet<Long>> others = filters.subList(1, filters.size());
+            long offset = pageable.getOffset();
+            List<Hit> content = new ArrayList<>(pageable.getPageSize());
+            long total = 0;
+            for (Long id : driver.descendingSet()) {
+                if (!others.stream().allMatch(other -> other.contains(id))) {
+                    continue;
+                }
+                if (total >= offset && content.size() < pageable.getPageSize()) {
+                    content.add(bySubscription.get(id));
+                }
+                total++;
+                if (others.isEmpty() && content.size() == pageable.getPageSize()) {
+                    total = driver.size();
+                    break;
+                }
+            }
+            return new PageImpl<>(content, pageable, total);
+        }
+
+        private Set<Long> matchUsers(String query, MatchMode mode) {
+            Set<Long> users = new HashSet<>();
+            if (mode == MatchMode.PREFIX) {
+                usersByUsername.subMap(query, true, query + Character.MAX_VALUE, false)
+                    .values().forEach(users::addAll);
+                return users;
+            }
+            if (query.length() < 3) {
+                // Too short for trigrams; the username map is small compared to the subscription table
+                usernameByUser.forEach((userId, username) -> {
+                    if (username.contains(query)) {
+                        users.add(userId);
+                    }
+                });
+                return users;
+            }
+
+            // Intersect posting lists smallest first, then confirm the candidates really contain the query
+            List<Set<Long>> postings = new ArrayList<>();
+            for (String trigram : trigrams(query)) {
+                Set<Long> posting = usersByTrigram.get(trigram);
+                if (posting == null) {
+                    return users;
+                }
+                postings.add(posting);
+            }
+            postings.sort(Comparator.comparingInt(Set::size));
+            users.addAll(postings.get(0));
+            for (int i = 1; i < postings.size() && !users.isEmpty(); i++) {
+                users.retainAll(postings.get(i));
+            }
+            users.removeIf(userId -> !usernameByUser.get(userId).contains(query));
+            return users;
+        }
+    }
+}
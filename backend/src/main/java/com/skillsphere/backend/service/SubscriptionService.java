@@ -1,16 +1,25 @@
 // SubscriptionService.java
 package com.skillsphere.backend.service;
 
+import com.skillsphere.backend.event.SubscriptionEvent;
+import com.skillsphere.backend.event.SubscriptionPlanEvent;
+import com.skillsphere.backend.model.ArchivedSubscription;
 import com.skillsphere.backend.model.Subscription;
 import com.skillsphere.backend.model.SubscriptionPlan;
 import com.skillsphere.backend.model.User;
+import com.skillsphere.backend.repository.ArchivedSubscriptionRepository;
 import com.skillsphere.backend.repository.SubscriptionPlanRepository;
 import com.skillsphere.backend.repository.SubscriptionRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -23,9 +32,16 @@ public class SubscriptionService {
     @Autowired
     private SubscriptionPlanRepository subscriptionPlanRepository;
 
+    @Autowired
+    private ArchivedSubscriptionRepository archivedSubscriptionRepository;
+
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Transactional
     public Subscription createSubscription(Long userId, String planName) {
         User user = userService.findById(userId);
         SubscriptionPlan plan = subscriptionPlanRepository.findByName(planName)
@@ -42,19 +58,49 @@ public class SubscriptionService {
         activeSubs.forEach(sub -> {
             sub.setActive(false);
             subscriptionRepository.save(sub);
+            eventPublisher.publishEvent(SubscriptionEvent.of(SubscriptionEvent.Type.UPDATED, sub));
         });
 
-        return subscriptionRepository.save(subscription);
+        Subscription saved = subscriptionRepository.save(subscription);
+        eventPublisher.publishEvent(SubscriptionEvent.of(SubscriptionEvent.Type.CREATED, saved));
+        return saved;
     }
 
     public List<Subscription> getUserSubscriptions(Long userId) {
-        return subscriptionRepository.findByUserId(userId);
+        return getUserSubscriptions(userId, false);
+    }
+
+    // Archived rows are only read when history is asked for; they come back as inactive, detached subscriptions
+    public List<Subscription> getUserSubscriptions(Long userId, boolean includeHistory) {
+        List<Subscription> subscriptions = subscriptionRepository.findByUserId(userId);
+        if (!includeHistory) {
+            return subscriptions;
+        }
+        List<ArchivedSubscription> archived = archivedSubscriptionRepository.findByUserId(userId);
+        if (archived.isEmpty()) {
+            return subscriptions;
+        }
+        User user = userService.findById(userId);
+        List<Subscription> history = new ArrayList<>(subscriptions);
+        for (ArchivedSubscription row : archived) {
+            Subscription subscription = new Subscription();
+            subscription.setId(row.getId());
+            subscription.setUser(user);
+            subscription.setPlan(row.getPlan());
+            subscription.setStartDate(row.getStartDate());
+            subscription.setEndDate(row.getEndDate());
+            subscription.setActive(false);
+            history.add(subscription);
+        }
+        history.sort(Comparator.comparing(Subscription::getStartDate).reversed());
+        return history;
     }
 
     public List<Subscription> getAllSubscriptions() {
         return subscriptionRepository.findAll();
     }
 
+    @Transactional
     public SubscriptionPlan createSubscriptionPlan(String name, String description, double price) {
         if (name == null || name.trim().isEmpty()) {
             throw new IllegalArgumentException("Plan name cannot be empty");
@@ -80,16 +126,19 @@ public class SubscriptionService {
         plan.setFeatures(features);
         plan.setPrice(price);
         try {
-            return subscriptionPlanRepository.save(plan);
+            SubscriptionPlan saved = subscriptionPlanRepository.save(plan);
+            eventPublisher.publishEvent(SubscriptionPlanEvent.of(SubscriptionPlanEvent.Type.CREATED, saved));
+            return saved;
         } catch (Exception e) {
-            throw new RuntimeException("Failed to save subscription plan: " + e.getMessage());
+            throw new RuntimeException("Failed to save subscription plan: " + e.getMessage(), e);
         }
     }
 
     public List<SubscriptionPlan> getAllSubscriptionPlans() {
-        return subscriptionPlanRepository.findAll();
+        return subscriptionPlanRepository.findAllWithFeatures();
     }
 
+    @Transactional
     public SubscriptionPlan updateSubscriptionPlan(Long planId, String name, String description, double price) {
         if (planId == null) {
             throw new IllegalArgumentException("Plan ID cannot be null");
@@ -119,12 +168,15 @@ public class SubscriptionService {
         plan.setFeatures(features);
         plan.setPrice(price);
         try {
-            return subscriptionPlanRepository.save(plan);
+            SubscriptionPlan saved = subscriptionPlanRepository.save(plan);
+            eventPublisher.publishEvent(SubscriptionPlanEvent.of(SubscriptionPlanEvent.Type.UPDATED, saved));
+            return saved;
         } catch (Exception e) {
-            throw new RuntimeException("Failed to update subscription plan: " + e.getMessage());
+            throw new RuntimeException("Failed to update subscription plan: " + e.getMessage(), e);
         }
     }
 
+    @Transactional
     public void deleteSubscriptionPlan(Long planId) {
         SubscriptionPlan plan = subscriptionPlanRepository.findById(planId)
             .orElseThrow(() -> new IllegalArgumentException("Subscription plan not found with ID: " + planId));
@@ -134,11 +186,13 @@ public class SubscriptionService {
         }
         try {
             subscriptionPlanRepository.deleteById(planId);
+            eventPublisher.publishEvent(SubscriptionPlanEvent.of(SubscriptionPlanEvent.Type.DELETED, plan));
         } catch (Exception e) {
-            throw new RuntimeException("Failed to delete subscription plan: " + e.getMessage());
+            throw new RuntimeException("Failed to delete subscription plan: " + e.getMessage(), e);
         }
     }
 
+    @Transactional
     public Subscription updateSubscription(Long subscriptionId, String plan, boolean active) {
         Subscription subscription = subscriptionRepository.findById(subscriptionId)
             .orElseThrow(() -> new IllegalArgumentException("Subscription not found: " + subscriptionId));
@@ -154,19 +208,34 @@ public class SubscriptionService {
             subscription.setEndDate(null);
         }
         try {
-            return subscriptionRepository.save(subscription);
+            Subscription saved = subscriptionRepository.save(subscription);
+            eventPublisher.publishEvent(SubscriptionEvent.of(SubscriptionEvent.Type.UPDATED, saved));
+            return saved;
         } catch (Exception e) {
-            throw new RuntimeException("Failed to update subscription: " + e.getMessage());
+            throw new RuntimeException("Failed to update subscription: " + e.getMessage(), e);
         }
     }
 
+    @Transactional
     public void deleteSubscription(Long subscriptionId) {
         Subscription subscription = subscriptionRepository.findById(subscriptionId)
             .orElseThrow(() -> new IllegalArgumentException("Subscription not found: " + subscriptionId));
         try {
             subscriptionRepository.delete(subscription);
+            eventPublisher.publishEvent(SubscriptionEvent.of(SubscriptionEvent.Type.DELETED, subscription));
         } catch (Exception e) {
-            throw new RuntimeException("Failed to delete subscription: " + e.getMessage());
+            throw new RuntimeException("Failed to delete subscription: " + e.getMessage(), e);
         }
     }
+
+    @Scheduled(fixedDelayString = "${subscription.expiry.interval-ms:60000}")
+    @Transactional
+    public void expireSubscriptions() {
+        List<Subscription> expired = subscriptionRepository.findByActiveTrueAndEndDateBefore(LocalDateTime.now());
+        expired.forEach(sub -> {
+            sub.setActive(false);
+            subscriptionRepository.save(sub);
+            eventPublisher.publishEvent(SubscriptionEvent.of(SubscriptionEvent.Type.EXPIRED, sub));
+        });
+    }
 }
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.skillsphere.backend.service;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-capacity ring of post ids, newest last. Pushes can arrive slightly out of order from concurrent
+ * writers, so each id is inserted at its sorted position and duplicates are ignored; the ring stays sorted
+ * and an id doubles as a pagination cursor. Once full, each push evicts the oldest id, and an id older than
+ * everything held is dropped.
+ */
+public class TimelineBuffer {
+
+    private final long[] postIds;
+    private int head;
+    private int size;
+
+    public TimelineBuffer(int capacity) {
+        this.postIds = new long[capacity];
+    }
+
+    public synchronized void pushAll(long[] newestFirst) {
+        for (int i = Math.min(newestFirst.length, postIds.length) - 1; i >= 0; i--) {
+            push(newestFirst[i]);
+        }
+    }
+
+    public synchronized void push(long postId) {
+        // Count the ids newer than this one, walking back from the newest; usually zero
+        int newer = 0;
+        while (newer < size) {
+            long existing = postIds[Math.floorMod(head - 1 - newer, postIds.length)];
+            if (existing == postId) {
+                return;
+            }
+            if (existing < postId) {
+                break;
+            }
+            newer++;
+        }
+        if (newer == postIds.length) {
+            return;
+        }
+        for (int i = 0; i < newer; i++) {
+            int from = Math.floorMod(head - 1 - i, postIds.length);
+            postIds[(from + 1) % postIds.length] = postIds[from];
+        }
+        postIds[Math.floorMod(head - newer, postIds.length)] = postId;
+        head = (head + 1) % postIds.length;
+        if (size < postIds.length) {
+            size++;
+        }
+    }
+
+    /** Up to {@code limit} ids below {@code beforePostId}, newest first. */
+    public synchronized long[] readBefore(long beforePostId, int limit) {
+        long[] result = new long[Math.min(limit, size)];
+        int count = 0;
+        for (int i = 1; i <= size && count < result.length; i++) {
+            long postId = postIds[Math.floorMod(head - i, postIds.length)];
+            if (postId < beforePostId) {
+                result[count++] = postId;
+            }
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Oldest id still held once the ring has wrapped, or 0 while nothing has been evicted. Ids below it
+     * may be missing and have to come from the database.
+     */
+    public synchronized long evictedBelow() {
+        return size == postIds.length ? postIds[head] : 0;
+    }
+}
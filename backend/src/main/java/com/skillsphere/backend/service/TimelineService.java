@@ -0,0 +1,231 @@
+package com.skillsphere.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.Data;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Home feed timelines for {@code GET /api/posts}.
+ *
+ * Each cached user has a {@link TimelineBuffer} of recent post ids. Posts by normal accounts are pushed
+ * into the buffers of followers that are currently cached (fan-out on write); posts by accounts with at
+ * least {@code feed.timeline.high-follower-threshold} followers are only kept in that author's own buffer
+ * and merged in when a follower reads (merge on read). Timelines that are not cached are rebuilt from
+ * {@link FeedSource} on the first read and expire after {@code feed.timeline.ttl-minutes}, which also
+ * picks up accounts that crossed the threshold since the rebuild. While a buffer is being rebuilt it is
+ * already registered for pushes, so a post created between the database read and the cache insert still
+ * lands in it.
+ *
+ * A page is a list of post ids plus the cursor for the next page; the caller loads the posts with one
+ * batched query and drops ids whose posts have since been deleted.
+ */
+@Service
+public class TimelineService {
+
+    @Data
+    public static class TimelinePage {
+        private final long[] postIds;
+        private final Long nextCursor;
+    }
+
+    private static class Timeline {
+        final TimelineBuffer buffer;
+        final long[] fanOutAuthorIds;
+        final long[] highFollowerAuthorIds;
+
+        Timeline(TimelineBuffer buffer, long[] fanOutAuthorIds, long[] highFollowerAuthorIds) {
+            this.buffer = buffer;
+            this.fanOutAuthorIds = fanOutAuthorIds;
+            this.highFollowerAuthorIds = highFollowerAuthorIds;
+        }
+    }
+
+    @Autowired
+    private ObjectProvider<FeedSource> feedSourceProvider;
+
+    @Value("${feed.timeline.capacity:200}")
+    private int capacity;
+
+    @Value("${feed.timeline.max-users:10000}")
+    private long maxTimelines;
+
+    @Value("${feed.timeline.high-follower-threshold:10000}")
+    private long highFollowerThreshold;
+
+    @Value("${feed.timeline.ttl-minutes:60}")
+    private long ttlMinutes;
+
+    private Cache<Long, Timeline> timelines;
+    private Cache<Long, TimelineBuffer> highFollowerPosts;
+    private final Map<Long, TimelineBuffer> rebuildingTimelines = new ConcurrentHashMap<>();
+    private final Map<Long, TimelineBuffer> rebuildingHighFollowerPosts = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        // Worst case memory is (max-users + max-users / 100) * capacity * 8 bytes, about 16 MB with the defaults;
+        // raise max-users only together with the heap
+        timelines = Caffeine.newBuilder()
+            .maximumSize(maxTimelines)
+            .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+            .build();
+        highFollowerPosts = Caffeine.newBuilder()
+            .maximumSize(Math.max(1, maxTimelines / 100))
+            .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+            .build();
+    }
+
+    public void onPostCreated(long authorId, long postId) {
+        FeedSource source = feedSource();
+        if (source.followerCounts(new long[] {authorId})[0] >= highFollowerThreshold) {
+            TimelineBuffer rebuilding = rebuildingHighFollowerPosts.get(authorId);
+            if (rebuilding != null) {
+                rebuilding.push(postId);
+            }
+            TimelineBuffer authored = highFollowerPosts.getIfPresent(authorId);
+            if (authored != null) {
+                authored.push(postId);
+            }
+        } else {
+            for (long followerId : source.followerIds(authorId)) {
+                pushToTimeline(followerId, postId);
+            }
+        }
+        pushToTimeline(authorId, postId);
+    }
+
+    private void pushToTimeline(long userId, long postId) {
+        // Check the in-flight rebuild before the cache: a rebuild is unregistered only after its entry is cached
+        TimelineBuffer rebuilding = rebuildingTimelines.get(userId);
+        if (rebuilding != null) {
+            rebuilding.push(postId);
+        }
+        Timeline timeline = timelines.getIfPresent(userId);
+        if (timeline != null) {
+            timeline.buffer.push(postId);
+        }
+    }
+
+    public void onFollowChanged(long followerId) {
+        timelines.invalidate(followerId);
+    }
+
+    public TimelinePage readTimeline(long userId, Long cursor, int limit) {
+        long before = cursor != null ? cursor : Long.MAX_VALUE;
+        Timeline timeline = timelines.get(userId, this::rebuild);
+        rebuildingTimelines.remove(userId, timeline.buffer);
+
+        long[] postIds = timeline.buffer.readBefore(before, limit);
+        long floor = timeline.buffer.evictedBelow();
+        for (long authorId : timeline.highFollowerAuthorIds) {
+            TimelineBuffer authored = highFollowerPosts.get(authorId, this::loadHighFollowerPosts);
+            rebuildingHighFollowerPosts.remove(authorId, authored);
+            postIds = mergeNewestFirst(postIds, authored.readBefore(before, limit), limit);
+            floor = Math.max(floor, authored.evictedBelow());
+        }
+
+        // Below the oldest id every ring still holds, the merge can have gaps; serve that page from the database
+        int trusted = 0;
+        while (trusted < postIds.length && postIds[trusted] >= floor) {
+            trusted++;
+        }
+        if (trusted < limit && floor > 0) {
+            long[] authors = concat(timeline.fanOutAuthorIds, timeline.highFollowerAuthorIds);
+            postIds = feedSource().recentPostIds(authors, before, limit);
+        } else if (trusted < postIds.length) {
+            postIds = Arrays.copyOf(postIds, trusted);
+        }
+
+        Long nextCursor = postIds.length == limit ? postIds[postIds.length - 1] : null;
+        return new TimelinePage(postIds, nextCursor);
+    }
+
+    private Timeline rebuild(long userId) {
+        TimelineBuffer buffer = new TimelineBuffer(capacity);
+        rebuildingTimelines.put(userId, buffer);
+        try {
+            return buildTimeline(userId, buffer);
+        } catch (RuntimeException e) {
+            rebuildingTimelines.remove(userId, buffer);
+            throw e;
+        }
+    }
+
+    private Timeline buildTimeline(long userId, TimelineBuffer buffer) {
+        FeedSource source = feedSource();
+        long[] followees = source.followeeIds(userId);
+        long[] counts = source.followerCounts(followees);
+
+        long[] fanOut = new long[followees.length + 1];
+        long[] highFollower = new long[followees.length];
+        int fanOutCount = 0;
+        int highFollowerCount = 0;
+        fanOut[fanOutCount++] = userId;
+        for (int i = 0; i < followees.length; i++) {
+            if (counts[i] >= highFollowerThreshold) {
+                highFollower[highFollowerCount++] = followees[i];
+            } else {
+                fanOut[fanOutCount++] = followees[i];
+            }
+        }
+        fanOut = Arrays.copyOf(fanOut, fanOutCount);
+        highFollower = Arrays.copyOf(highFollower, highFollowerCount);
+
+        buffer.pushAll(source.recentPostIds(fanOut, Long.MAX_VALUE, capacity));
+        return new Timeline(buffer, fanOut, highFollower);
+    }
+
+    private TimelineBuffer loadHighFollowerPosts(long authorId) {
+        TimelineBuffer buffer = new TimelineBuffer(capacity);
+        rebuildingHighFollowerPosts.put(authorId, buffer);
+        try {
+            buffer.pushAll(feedSource().recentPostIds(new long[] {authorId}, Long.MAX_VALUE, capacity));
+            return buffer;
+        } catch (RuntimeException e) {
+            rebuildingHighFollowerPosts.remove(authorId, buffer);
+            throw e;
+        }
+    }
+
+    private FeedSource feedSource() {
+        FeedSource source = feedSourceProvider.getIfAvailable();
+        if (source == null) {
+            throw new IllegalStateException("No FeedSource bean is registered for timelines");
+        }
+        return source;
+    }
+
+    private static long[] mergeNewestFirst(long[] a, long[] b, int limit) {
+        long[] merged = new long[Math.min(limit, a.length + b.length)];
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (count < merged.length && (i < a.length || j < b.length)) {
+            long next;
+            if (j >= b.length || (i < a.length && a[i] >= b[j])) {
+                next = a[i++];
+            } else {
+                next = b[j++];
+            }
+            if (count == 0 || merged[count - 1] != next) {
+                merged[count++] = next;
+            }
+        }
+        return count == merged.length ? merged : Arrays.copyOf(merged, count);
+    }
+
+    private static long[] concat(long[] a, long[] b) {
+        long[] result = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, result, a.length, b.length);
+        return result;
+    }
+}
@@ -0,0 +1,55 @@
+package com.skillsphere.backend.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PasswordPolicyTest {
+
+    // Only the prefix and cost are inspected; the salt and digest part is a placeholder
+    private static final String DIGEST = "abcdefghijklmnopqrstuuabcdefghijklmnopqrstuvwxyz01234";
+
+    // Pinned costs stand in for a slow and a fast node calibrating differently within 10-14
+    private final PasswordPolicy slowNode = new PasswordPolicy(10, 250, 10, 14);
+    private final PasswordPolicy fastNode = new PasswordPolicy(14, 250, 10, 14);
+
+    @Test
+    void nodesAcceptEachOthersHashesWithinTheRange() {
+        String slowHash = "{bcrypt}$2a$10$" + DIGEST;
+        String fastHash = "{bcrypt}$2a$14$" + DIGEST;
+
+        assertFalse(slowNode.needsRehash(fastHash));
+        assertFalse(fastNode.needsRehash(slowHash));
+        assertFalse(slowNode.needsRehash(slowHash));
+        assertFalse(fastNode.needsRehash(fastHash));
+    }
+
+    @Test
+    void hashesOutsideTheRangeAreRehashedOnEveryNode() {
+        String weakHash = "{bcrypt}$2a$08$" + DIGEST;
+        String excessiveHash = "{bcrypt}$2a$15$" + DIGEST;
+
+        assertTrue(slowNode.needsRehash(weakHash));
+        assertTrue(fastNode.needsRehash(weakHash));
+        assertTrue(slowNode.needsRehash(excessiveHash));
+        assertTrue(fastNode.needsRehash(excessiveHash));
+    }
+
+    @Test
+    void hashesWithoutThePrefixAreRehashed() {
+        String legacyHash = "$2a$12$" + DIGEST;
+
+        assertTrue(slowNode.needsRehash(legacyHash));
+        assertTrue(fastNode.needsRehash(legacyHash));
+    }
+
+    @Test
+    void encodedPasswordsMatchThePolicy() {
+        String encoded = slowNode.createEncoder().encode("secret");
+
+        assertTrue(slowNode.createEncoder().matches("secret", encoded));
+        assertFalse(slowNode.needsRehash(encoded));
+        assertFalse(fastNode.needsRehash(encoded));
+    }
+}
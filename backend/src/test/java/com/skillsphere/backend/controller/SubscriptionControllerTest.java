@@ -0,0 +1,27 @@
+package com.skillsphere.backend.controller;
+
+import com.skillsphere.backend.support.SqlStatementBudget;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "sql.statement-stats.expose-header=true")
+@AutoConfigureMockMvc
+class SubscriptionControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void plansAreLoadedWithOneStatement() throws Exception {
+        mockMvc.perform(get("/api/subscriptions/plans"))
+            .andExpect(status().isOk())
+            .andExpect(SqlStatementBudget.maxStatements(1))
+            .andExpect(SqlStatementBudget.noRepeatedStatements());
+    }
+}
@@ -0,0 +1,126 @@
+package com.skillsphere.backend.service;
+
+import com.skillsphere.backend.model.ReactionLogCheckpoint;
+import com.skillsphere.backend.repository.PostReactionCountRepository;
+import com.skillsphere.backend.repository.PostReactionUserRepository;
+import com.skillsphere.backend.repository.ReactionLogCheckpointRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReactionCounterServiceTest {
+
+    @TempDir
+    Path logDirectory;
+
+    @Mock
+    private PostReactionCountRepository postReactionCountRepository;
+
+    @Mock
+    private PostReactionUserRepository postReactionUserRepository;
+
+    @Mock
+    private ReactionLogCheckpointRepository checkpointRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private ReactionCounterService reactionCounterService;
+
+    @Test
+    void tornLastLineIsSkipped() throws Exception {
+        // A crash mid-append leaves the last line without its terminator
+        writeSegment(1, "10,1,like;\n10,2,li");
+
+        ReactionLog log = new ReactionLog(logDirectory, 0);
+        List<String[]> entries = new ArrayList<>();
+        log.read(1, entries::add);
+
+        assertEquals(1, entries.size());
+        assertArrayEquals(new String[] {"10", "1", "like"}, entries.get(0));
+        assertEquals(2, log.append(10, 3, "like"));
+        log.close();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void unflushedSegmentIsReplayedOnStartup() throws Exception {
+        writeSegment(1, "10,1,like;\n10,2,like;\n11,1,love;\n11,3,lo");
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        // User 2's reaction on post 10 was already recorded by another instance
+        when(jdbcTemplate.batchUpdate(startsWith("INSERT IGNORE"), anyList())).thenReturn(new int[] {1, 0, 1});
+
+        start();
+
+        ArgumentCaptor<List<Object[]>> counts = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO post_reaction_counts"), counts.capture());
+        assertEquals(2, counts.getValue().size());
+        for (Object[] count : counts.getValue()) {
+            assertEquals(1L, count[2]);
+        }
+        verify(jdbcTemplate).update(startsWith("INSERT INTO reaction_log_checkpoint"), eq(1L));
+        assertFalse(Files.exists(logDirectory.resolve("reactions-1.log")));
+    }
+
+    @Test
+    void checkpointedSegmentIsDeletedWithoutFlushing() throws Exception {
+        // The flush committed but the process died before deleting the segment file
+        writeSegment(1, "10,1,like;\n");
+        ReactionLogCheckpoint checkpoint = new ReactionLogCheckpoint();
+        checkpoint.setId(1L);
+        checkpoint.setLastSegment(1);
+        when(checkpointRepository.findById(1L)).thenReturn(Optional.of(checkpoint));
+
+        start();
+
+        verifyNoInteractions(jdbcTemplate, transactionTemplate);
+        assertFalse(Files.exists(logDirectory.resolve("reactions-1.log")));
+    }
+
+    private void start() {
+        ReflectionTestUtils.setField(reactionCounterService, "logDirectory", logDirectory.toString());
+        ReflectionTestUtils.setField(reactionCounterService, "idleEvictMs", 600000L);
+        ReflectionTestUtils.setField(reactionCounterService, "refreshIntervalMs", 60000L);
+        reactionCounterService.init();
+    }
+
+    private void writeSegment(long segment, String content) throws Exception {
+        Files.writeString(logDirectory.resolve("reactions-" + segment + ".log"), content, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,61 @@
+package com.skillsphere.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TimelineBufferTest {
+
+    @Test
+    void outOfOrderPushesAreKeptSorted() {
+        TimelineBuffer buffer = new TimelineBuffer(5);
+        buffer.push(10);
+        buffer.push(30);
+        buffer.push(20);
+        buffer.push(40);
+
+        assertArrayEquals(new long[] {40, 30, 20, 10}, buffer.readBefore(Long.MAX_VALUE, 10));
+    }
+
+    @Test
+    void duplicatePushesAreIgnored() {
+        TimelineBuffer buffer = new TimelineBuffer(5);
+        buffer.pushAll(new long[] {30, 20, 10});
+        buffer.push(20);
+        buffer.push(30);
+
+        assertArrayEquals(new long[] {30, 20, 10}, buffer.readBefore(Long.MAX_VALUE, 10));
+        assertEquals(0, buffer.evictedBelow());
+    }
+
+    @Test
+    void fullRingEvictsOldestAndDropsOlderIds() {
+        TimelineBuffer buffer = new TimelineBuffer(3);
+        buffer.pushAll(new long[] {30, 20, 10});
+        assertEquals(10, buffer.evictedBelow());
+
+        // Lands between held ids, so the oldest goes
+        buffer.push(25);
+        assertArrayEquals(new long[] {30, 25, 20}, buffer.readBefore(Long.MAX_VALUE, 10));
+        assertEquals(20, buffer.evictedBelow());
+
+        // Older than everything held in a full ring
+        buffer.push(5);
+        assertArrayEquals(new long[] {30, 25, 20}, buffer.readBefore(Long.MAX_VALUE, 10));
+
+        buffer.push(40);
+        assertArrayEquals(new long[] {40, 30, 25}, buffer.readBefore(Long.MAX_VALUE, 10));
+    }
+
+    @Test
+    void readBeforeStartsBelowTheCursor() {
+        TimelineBuffer buffer = new TimelineBuffer(10);
+        buffer.pushAll(new long[] {50, 40, 30, 20, 10});
+
+        assertArrayEquals(new long[] {50, 40}, buffer.readBefore(Long.MAX_VALUE, 2));
+        assertArrayEquals(new long[] {30, 20}, buffer.readBefore(40, 2));
+        assertArrayEquals(new long[] {10}, buffer.readBefore(20, 2));
+        assertArrayEquals(new long[] {}, buffer.readBefore(10, 2));
+    }
+}
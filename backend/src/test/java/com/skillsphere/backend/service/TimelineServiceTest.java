@@ -0,0 +1,86 @@
+package com.skillsphere.backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TimelineServiceTest {
+
+    private static final long USER_ID = 1;
+    private static final long AUTHOR_ID = 2;
+
+    @Mock
+    private ObjectProvider<FeedSource> feedSourceProvider;
+
+    @Mock
+    private FeedSource feedSource;
+
+    @InjectMocks
+    private TimelineService timelineService;
+
+    @BeforeEach
+    void setUp() {
+        when(feedSourceProvider.getIfAvailable()).thenReturn(feedSource);
+        when(feedSource.followeeIds(USER_ID)).thenReturn(new long[] {AUTHOR_ID});
+        when(feedSource.followerCounts(aryEq(new long[] {AUTHOR_ID}))).thenReturn(new long[] {5});
+        ReflectionTestUtils.setField(timelineService, "capacity", 3);
+        ReflectionTestUtils.setField(timelineService, "maxTimelines", 100L);
+        ReflectionTestUtils.setField(timelineService, "highFollowerThreshold", 1000L);
+        ReflectionTestUtils.setField(timelineService, "ttlMinutes", 60L);
+        timelineService.init();
+    }
+
+    @Test
+    void pageBelowTheEvictedFloorComesFromTheDatabase() {
+        when(feedSource.recentPostIds(aryEq(new long[] {USER_ID, AUTHOR_ID}), eq(Long.MAX_VALUE), eq(3)))
+            .thenReturn(new long[] {30, 20, 10});
+        when(feedSource.recentPostIds(aryEq(new long[] {USER_ID, AUTHOR_ID}), eq(20L), eq(2)))
+            .thenReturn(new long[] {10, 5});
+
+        TimelineService.TimelinePage first = timelineService.readTimeline(USER_ID, null, 2);
+        assertArrayEquals(new long[] {30, 20}, first.getPostIds());
+        assertEquals(20L, first.getNextCursor());
+
+        // The ring is full, so ids below 10 may have been evicted; the page is served from the database
+        TimelineService.TimelinePage second = timelineService.readTimeline(USER_ID, first.getNextCursor(), 2);
+        assertArrayEquals(new long[] {10, 5}, second.getPostIds());
+        assertEquals(5L, second.getNextCursor());
+    }
+
+    @Test
+    void ringThatNeverWrappedIsTheWholeTimeline() {
+        when(feedSource.recentPostIds(aryEq(new long[] {USER_ID, AUTHOR_ID}), eq(Long.MAX_VALUE), eq(3)))
+            .thenReturn(new long[] {30, 20});
+
+        TimelineService.TimelinePage page = timelineService.readTimeline(USER_ID, 20L, 2);
+
+        assertArrayEquals(new long[] {}, page.getPostIds());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void postsPushedAfterTheRebuildAreRead() {
+        when(feedSource.recentPostIds(aryEq(new long[] {USER_ID, AUTHOR_ID}), eq(Long.MAX_VALUE), eq(3)))
+            .thenReturn(new long[] {20});
+        when(feedSource.followerIds(AUTHOR_ID)).thenReturn(new long[] {USER_ID});
+        timelineService.readTimeline(USER_ID, null, 2);
+
+        timelineService.onPostCreated(AUTHOR_ID, 40);
+        timelineService.onPostCreated(AUTHOR_ID, 30);
+
+        assertArrayEquals(new long[] {40, 30}, timelineService.readTimeline(USER_ID, null, 2).getPostIds());
+    }
+}
@@ -0,0 +1,36 @@
+package com.skillsphere.backend.support;
+
+import com.skillsphere.backend.config.SqlStatementStatsFilter;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * MockMvc matchers for the SQL statement headers added by SqlStatementStatsFilter, e.g.
+ * {@code mockMvc.perform(get("/api/admin/subscriptions")).andExpect(SqlStatementBudget.maxStatements(2))}.
+ * Requires {@code sql.statement-stats.expose-header=true}, which is the default outside the prod profile.
+ */
+public final class SqlStatementBudget {
+
+    private SqlStatementBudget() {
+    }
+
+    public static ResultMatcher maxStatements(int max) {
+        return result -> {
+            String header = result.getResponse().getHeader(SqlStatementStatsFilter.STATEMENT_COUNT_HEADER);
+            assertNotNull(header, "Missing " + SqlStatementStatsFilter.STATEMENT_COUNT_HEADER + " header");
+            int statements = Integer.parseInt(header);
+            assertTrue(statements <= max, "Expected at most " + max + " SQL statements but " + statements + " were executed");
+        };
+    }
+
+    public static ResultMatcher noRepeatedStatements() {
+        return result -> {
+            String header = result.getResponse().getHeader(SqlStatementStatsFilter.REPEATED_HEADER);
+            assertNotNull(header, "Missing " + SqlStatementStatsFilter.REPEATED_HEADER + " header");
+            assertEquals(0, Integer.parseInt(header), "Statements were repeated within the request (possible N+1)");
+        };
+    }
+}
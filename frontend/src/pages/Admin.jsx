@@ -1,5 +1,5 @@
 // src/pages/Admin.jsx
-import { useContext, useEffect, useState } from "react";
+import { useContext, useEffect, useRef, useState } from "react";
 import { AuthContext } from "../context/AuthContext";
 import axios from "axios";
 import { motion } from "framer-motion";
@@ -34,6 +34,83 @@ export default function Admin() {
     fetchSubscriptionPlans();
   }, [user]);
 
+  // Create and update both arrive here as well as through the change stream, so apply them idempotently
+  const upsertPlan = (plan) => {
+    setSubscriptionPlans((plans) =>
+      plans.some((p) => p.id === plan.id) ? plans.map((p) => (p.id === plan.id ? plan : p)) : [...plans, plan]
+    );
+  };
+
+  const removePlan = (id) => {
+    setSubscriptionPlans((plans) => plans.filter((p) => p.id !== id));
+  };
+
+  // Follow other admins' changes through the server-sent event stream instead of reloading the list.
+  // fetch is used rather than EventSource because the stream needs the Authorization header.
+  const lastEventId = useRef(null);
+  useEffect(() => {
+    if (!user || !user.isAdmin) return;
+    const controller = new AbortController();
+
+    const handleEvent = (name, data) => {
+      if (name === "reset") {
+        fetchSubscriptionPlans();
+      } else if (name === "plan.created" || name === "plan.updated") {
+        upsertPlan({
+          id: data.planId,
+          name: data.name,
+          features: data.features,
+          price: data.price,
+          createdAt: data.createdAt,
+        });
+      } else if (name === "plan.deleted") {
+        removePlan(data.planId);
+      }
+    };
+
+    const connect = async () => {
+      while (!controller.signal.aborted) {
+        try {
+          const headers = { Authorization: `Bearer ${user.token}` };
+          if (lastEventId.current) headers["Last-Event-ID"] = lastEventId.current;
+          const response = await fetch("http://localhost:8080/api/admin/events", {
+            headers,
+            signal: controller.signal,
+          });
+          // Tokens issued before the admin claim existed are refused; retrying will not help until re-login
+          if (response.status === 401 || response.status === 403) return;
+          const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+          let buffer = "";
+          for (;;) {
+            const { value, done } = await reader.read();
+            if (done) break;
+            buffer += value;
+            let boundary;
+            while ((boundary = buffer.indexOf("\n\n")) >= 0) {
+              const block = buffer.slice(0, boundary);
+              buffer = buffer.slice(boundary + 2);
+              let name = "message";
+              let data = "";
+              for (const line of block.split("\n")) {
+                if (line.startsWith("id:")) lastEventId.current = line.slice(3).trim();
+                else if (line.startsWith("event:")) name = line.slice(6).trim();
+                else if (line.startsWith("data:")) data += line.slice(5);
+              }
+              if (data) handleEvent(name, JSON.parse(data));
+            }
+          }
+        } catch (err) {
+          if (controller.signal.aborted) return;
+          console.error("Admin change stream error:", err);
+        }
+        await new Promise((resolve) => setTimeout(resolve, 3000));
+      }
+    };
+
+    connect();
+    return () => controller.abort();
+  }, [user]);
+
   const validateDescription = (description) => {
     if (!description.trim()) return false;
     const features = description.split(",").map((f) => f.trim());
@@ -67,7 +144,7 @@ export default function Admin() {
         },
         { headers: { Authorization: `Bearer ${user.token}` } }
       );
-      setSubscriptionPlans([...subscriptionPlans, response.data]);
+      upsertPlan(response.data);
       setNewPlan({ name: "", description: "", price: "" });
     } catch (err) {
       setError(err.response?.data?.message || "Failed to create subscription plan");
@@ -109,7 +186,7 @@ export default function Admin() {
         payload,
         { headers: { Authorization: `Bearer ${user.token}` } }
       );
-      setSubscriptionPlans(subscriptionPlans.map((p) => (p.id === plan.id ? response.data : p)));
+      upsertPlan(response.data);
       setEditingPlan(null);
     } catch (err) {
       const errorMessage =
@@ -131,7 +208,7 @@ export default function Admin() {
       await axios.delete(`http://localhost:8080/api/admin/subscription-plans/${id}`, {
         headers: { Authorization: `Bearer ${user.token}` },
       });
-      setSubscriptionPlans(subscriptionPlans.filter((plan) => plan.id !== id));
+      removePlan(id);
     } catch (err) {
       setError(err.response?.data?.message || "Failed to delete subscription plan");
       console.error("Delete plan error:", err);